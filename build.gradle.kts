@@ -9,11 +9,31 @@ repositories {
     mavenCentral()
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// Runs all benchmarks with the GC profiler attached, so allocation rates (gc.alloc.rate.norm) are reported
+// next to the timings. Pass a benchmark filter and further JMH options via -PjmhArgs="ResultBenchmark -f 1".
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args("-prof", "gc")
+    (project.findProperty("jmhArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
@@ -0,0 +1,93 @@
+package pvlov.betterstandards;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pvlov.betterstandards.container.tuples.Tuple;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AlgorithmsBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        values = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            values[i] = random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> min() {
+        return Algorithms.min(values);
+    }
+
+    @Benchmark
+    public Optional<Integer> max() {
+        return Algorithms.max(values);
+    }
+
+    @Benchmark
+    public Optional<Integer> minComparator() {
+        return Algorithms.min(Comparator.naturalOrder(), values);
+    }
+
+    @Benchmark
+    public Optional<Tuple<Integer, Integer>> minMax() {
+        return Algorithms.minMax(values);
+    }
+
+    @Benchmark
+    public Tuple<Optional<Integer>, Optional<Integer>> minThenMax() {
+        return Tuple.of(Algorithms.min(values), Algorithms.max(values));
+    }
+
+    @Benchmark
+    public List<Integer> top100() {
+        return Algorithms.topK(Comparator.naturalOrder(), values, 100);
+    }
+
+    @Benchmark
+    public List<Integer> top100BySorting() {
+        final Integer[] copy = values.clone();
+        Arrays.sort(copy, Comparator.reverseOrder());
+        return Arrays.asList(copy).subList(0, Math.min(100, copy.length));
+    }
+
+    @Benchmark
+    public Optional<Integer> median() {
+        return Algorithms.median(Comparator.naturalOrder(), values.clone());
+    }
+
+    @Benchmark
+    public Integer medianBySorting() {
+        final Integer[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy[(copy.length - 1) / 2];
+    }
+}
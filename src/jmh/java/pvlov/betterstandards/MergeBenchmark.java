@@ -0,0 +1,65 @@
+package pvlov.betterstandards;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MergeBenchmark {
+
+    @Param({"4", "64"})
+    private int sources;
+
+    @Param({"100000"})
+    private int elementsPerSource;
+
+    private List<List<Integer>> segments;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        segments = new ArrayList<>(sources);
+        for (int i = 0; i < sources; ++i) {
+            final List<Integer> segment = new ArrayList<>(elementsPerSource);
+            random.ints(elementsPerSource).sorted().forEach(segment::add);
+            segments.add(segment);
+        }
+    }
+
+    @Benchmark
+    public void merge(final Blackhole bh) {
+        for (final Integer value : Algorithms.merge(Comparator.<Integer>naturalOrder(), segments)) {
+            bh.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void concatAndSort(final Blackhole bh) {
+        final List<Integer> all = new ArrayList<>(sources * elementsPerSource);
+        segments.forEach(all::addAll);
+        all.sort(Comparator.naturalOrder());
+        for (final Integer value : all) {
+            bh.consume(value);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package pvlov.betterstandards;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pvlov.betterstandards.container.result.Result;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+
+    @Param({"123456", "12x456"})
+    private String intInput;
+
+    @Param({"3.14159", "3.14x59"})
+    private String doubleInput;
+
+    @Benchmark
+    public int resultOfParseInt() {
+        return Result.of(() -> Integer.parseInt(intInput)).orElse(72);
+    }
+
+    @Benchmark
+    public int parseInt() {
+        return Parse.parseInt(intInput).orElse(72);
+    }
+
+    @Benchmark
+    public double resultOfParseDouble() {
+        return Result.of(() -> Double.parseDouble(doubleInput)).orElse(0.0);
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        return Parse.parseDouble(doubleInput).orElse(0.0);
+    }
+}
@@ -0,0 +1,86 @@
+package pvlov.betterstandards;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the primitive reductions of {@link Algorithms} against the JDK streams. Sizes above the parallel threshold
+ * (see the pvlov.betterstandards.algorithms.parallelThreshold property) run on the common ForkJoinPool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveReductionsBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private int[] ints;
+    private double[] doubles;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        ints = random.ints(size).toArray();
+        doubles = random.doubles(size).toArray();
+    }
+
+    @Benchmark
+    public OptionalInt intMin() {
+        return Algorithms.min(ints);
+    }
+
+    @Benchmark
+    public OptionalInt intMinStream() {
+        return IntStream.of(ints).min();
+    }
+
+    @Benchmark
+    public long intSum() {
+        return Algorithms.sum(ints);
+    }
+
+    @Benchmark
+    public long intSumStream() {
+        return IntStream.of(ints).asLongStream().sum();
+    }
+
+    @Benchmark
+    public OptionalInt intArgMax() {
+        return Algorithms.argMax(ints);
+    }
+
+    @Benchmark
+    public OptionalDouble doubleMax() {
+        return Algorithms.max(doubles);
+    }
+
+    @Benchmark
+    public OptionalDouble doubleMaxStream() {
+        return DoubleStream.of(doubles).max();
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        return Algorithms.sum(doubles);
+    }
+}
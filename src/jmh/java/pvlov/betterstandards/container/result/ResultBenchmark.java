@@ -0,0 +1,125 @@
+package pvlov.betterstandards.container.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultBenchmark {
+
+    private String validInput = "12345";
+    private String invalidInput = "not a number";
+
+    private int sink;
+
+    private final Result<Integer, String> ok = Ok.of(42);
+    private final Result<Integer, String> err = Err.of("error");
+
+    @Benchmark
+    public Result<Integer, RuntimeException> ofSuccess() {
+        return Result.of(() -> Integer.parseInt(validInput));
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> ofFailure() {
+        return Result.of(() -> Integer.parseInt(invalidInput));
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> ofCheckedSuccess() {
+        return Result.ofChecked(() -> checkedParse(validInput));
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> ofCheckedFailure() {
+        return Result.ofChecked(() -> checkedParse(invalidInput));
+    }
+
+    @Benchmark
+    public Result<Void, RuntimeException> ofRunnableSuccess() {
+        return Result.of(() -> {
+            sink = validInput.length();
+        });
+    }
+
+    @Benchmark
+    public Result<Void, String> toVoidErr() {
+        return err.map(x -> x + 1).toVoid();
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapChainOk() {
+        return ok.map(x -> x + 1).map(x -> x * 2).map(x -> x - 3);
+    }
+
+    @Benchmark
+    public Result<Integer, String> mapChainErr() {
+        return err.map(x -> x + 1).map(x -> x * 2).map(x -> x - 3);
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMapChainOk() {
+        return ok.flatMap(x -> Ok.of(x + 1)).flatMap(x -> Ok.of(x * 2)).flatMap(x -> Ok.of(x - 3));
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMapChainErr() {
+        return err.flatMap(x -> Ok.of(x + 1)).flatMap(x -> Ok.of(x * 2)).flatMap(x -> Ok.of(x - 3));
+    }
+
+    @Benchmark
+    public int boxedMapOrElse() {
+        return Result.of(() -> Integer.parseInt(validInput)).map(x -> x * 1000).orElse(0);
+    }
+
+    @Benchmark
+    public int primitiveMapOrElse() {
+        return IntResult.of(() -> Integer.parseInt(validInput)).mapToInt(x -> x * 1000).orElse(0);
+    }
+
+    @Benchmark
+    public Result<Integer, Rejection> errOfEnum() {
+        return Err.of(Rejection.RATE_LIMITED);
+    }
+
+    @Benchmark
+    public Result<Integer, NoSuchElementException> filterRejected() {
+        return ok.filter(x -> x < 0);
+    }
+
+    @Benchmark
+    public Object unwrapErr() {
+        try {
+            return err.unwrap();
+        } catch (final ResultUnwrapException e) {
+            return e;
+        }
+    }
+
+    private enum Rejection {
+        RATE_LIMITED, UNAUTHORIZED
+    }
+
+    private static int checkedParse(final String input) throws IOException {
+        try {
+            return Integer.parseInt(input);
+        } catch (final NumberFormatException e) {
+            throw new IOException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package pvlov.betterstandards.container.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pvlov.betterstandards.container.tuples.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultsBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Result<Integer, String>> results;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            results.add(i % 100 == 99 ? Err.of("error " + i) : Ok.of(i));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> handWrittenLoop() {
+        final List<Integer> oks = new ArrayList<>();
+        for (final Result<Integer, String> result : results) {
+            result.ok().ifPresent(oks::add);
+        }
+        return oks;
+    }
+
+    @Benchmark
+    public Tuple<List<Integer>, List<String>> partition() {
+        return Results.partition(results);
+    }
+
+    @Benchmark
+    public Tuple<List<Integer>, List<String>> parallelPartition() {
+        return results.parallelStream().collect(Results.partition());
+    }
+
+    @Benchmark
+    public List<Integer> collectOks() {
+        return results.stream().collect(Results.collectOks());
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> parallelSequence() {
+        return results.parallelStream().collect(Results.sequence());
+    }
+}
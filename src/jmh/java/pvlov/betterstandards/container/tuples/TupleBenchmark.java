@@ -0,0 +1,57 @@
+package pvlov.betterstandards.container.tuples;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with the GC profiler to compare the bytes allocated per list of pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Benchmark
+    public List<Tuple<Long, Double>> boxedPairs() {
+        final List<Tuple<Long, Double>> pairs = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            pairs.add(Tuple.of(1_700_000_000_000L + i, i * 0.5));
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public List<LongDoubleTuple> primitivePairs() {
+        final List<LongDoubleTuple> pairs = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            pairs.add(LongDoubleTuple.of(1_700_000_000_000L + i, i * 0.5));
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public int boxedHashCode() {
+        return Tuple.of(1_700_000_000_000L, 0.5).hashCode();
+    }
+
+    @Benchmark
+    public int primitiveHashCode() {
+        return LongDoubleTuple.of(1_700_000_000_000L, 0.5).hashCode();
+    }
+}
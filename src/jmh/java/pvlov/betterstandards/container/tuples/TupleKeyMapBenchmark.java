@@ -0,0 +1,111 @@
+package pvlov.betterstandards.container.tuples;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleKeyMapBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int GRID_WIDTH = 316;
+
+    // random keys, or clustered keys laid out like grid coordinates which collide when combined before spreading
+    @Param({"random", "grid"})
+    private String keys;
+
+    private int[] firsts;
+    private int[] seconds;
+    private Map<Tuple<Integer, Integer>, Long> hashMap;
+    private TupleKeyMap<Integer, Integer, Long> tupleKeyMap;
+    private IntIntKeyMap<Long> intIntKeyMap;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        firsts = new int[SIZE];
+        seconds = new int[SIZE];
+        hashMap = new HashMap<>();
+        tupleKeyMap = new TupleKeyMap<>();
+        intIntKeyMap = new IntIntKeyMap<>();
+        for (int i = 0; i < SIZE; ++i) {
+            firsts[i] = keys.equals("grid") ? i / GRID_WIDTH : random.nextInt(10_000);
+            seconds[i] = keys.equals("grid") ? i % GRID_WIDTH : random.nextInt(10_000);
+            hashMap.put(Tuple.of(firsts[i], seconds[i]), (long) i);
+            tupleKeyMap.put(firsts[i], seconds[i], (long) i);
+            intIntKeyMap.put(firsts[i], seconds[i], (long) i);
+        }
+    }
+
+    @Benchmark
+    public long getHashMap() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            sum += hashMap.get(Tuple.of(firsts[i], seconds[i]));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getTupleKeyMap() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            sum += tupleKeyMap.get(firsts[i], seconds[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getIntIntKeyMap() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            sum += intIntKeyMap.get(firsts[i], seconds[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Map<Tuple<Integer, Integer>, Long> putHashMap() {
+        final Map<Tuple<Integer, Integer>, Long> map = new HashMap<>();
+        for (int i = 0; i < SIZE; ++i) {
+            map.put(Tuple.of(firsts[i], seconds[i]), (long) i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public TupleKeyMap<Integer, Integer, Long> putTupleKeyMap() {
+        final TupleKeyMap<Integer, Integer, Long> map = new TupleKeyMap<>();
+        for (int i = 0; i < SIZE; ++i) {
+            map.put(firsts[i], seconds[i], (long) i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public IntIntKeyMap<Long> putIntIntKeyMap() {
+        final IntIntKeyMap<Long> map = new IntIntKeyMap<>();
+        for (int i = 0; i < SIZE; ++i) {
+            map.put(firsts[i], seconds[i], (long) i);
+        }
+        return map;
+    }
+}
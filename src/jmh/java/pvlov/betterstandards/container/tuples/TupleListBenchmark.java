@@ -0,0 +1,63 @@
+package pvlov.betterstandards.container.tuples;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleListBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private List<Triple<Long, Double, String>> rows;
+    private TripleList<Long, Double, String> columns;
+    private Column.OfDouble values;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        rows = new ArrayList<>(SIZE);
+        values = Column.ofDouble();
+        columns = TripleList.ofColumns(Column.ofLong(), values, Column.ofObject());
+        for (int i = 0; i < SIZE; ++i) {
+            final double value = random.nextDouble();
+            rows.add(Triple.of((long) i, value, "sensor"));
+            columns.addRow((long) i, value, "sensor");
+        }
+    }
+
+    @Benchmark
+    public double sumRows() {
+        double sum = 0;
+        for (final Triple<Long, Double, String> row : rows) {
+            sum += row.second();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumColumn() {
+        double sum = 0;
+        for (int i = 0; i < values.size(); ++i) {
+            sum += values.getDouble(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,137 @@
+package pvlov.betterstandards.iterator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pvlov.betterstandards.container.tuples.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnumeratorBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private List<String> list;
+    private String[] array;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            list.add(Integer.toString(i));
+        }
+        array = list.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void indexedLoop(final Blackhole bh) {
+        for (int i = 0; i < list.size(); ++i) {
+            bh.consume(i);
+            bh.consume(list.get(i));
+        }
+    }
+
+    @Benchmark
+    public void enumerator(final Blackhole bh) {
+        final Enumerator<String> enumerator = Enumerator.fromIterator(list.iterator());
+        while (enumerator.hasNext()) {
+            final Tuple<Integer, String> next = enumerator.next();
+            bh.consume(next.first());
+            bh.consume(next.second());
+        }
+    }
+
+    @Benchmark
+    public void enumerable(final Blackhole bh) {
+        for (final Tuple<Integer, String> next : Enumerable.fromIterable(list)) {
+            bh.consume(next.first());
+            bh.consume(next.second());
+        }
+    }
+
+    @Benchmark
+    public void cursor(final Blackhole bh) {
+        final Cursor<String> cursor = Enumerable.fromIterable(list).cursor();
+        while (cursor.advance()) {
+            bh.consume(cursor.index());
+            bh.consume(cursor.value());
+        }
+    }
+
+    @Benchmark
+    public void forEachIndexed(final Blackhole bh) {
+        Enumerable.fromIterable(list).forEachIndexed((index, value) -> {
+            bh.consume(index);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void randomAccessCursor(final Blackhole bh) {
+        final Cursor<String> cursor = Enumerable.of(list).cursor();
+        while (cursor.advance()) {
+            bh.consume(cursor.index());
+            bh.consume(cursor.value());
+        }
+    }
+
+    @Benchmark
+    public void randomAccessForEachIndexed(final Blackhole bh) {
+        Enumerable.of(list).forEachIndexed((index, value) -> {
+            bh.consume(index);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void arrayForEachIndexed(final Blackhole bh) {
+        Enumerable.of(array).forEachIndexed((index, value) -> {
+            bh.consume(index);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public long fusedOperators() {
+        final long[] sum = {0};
+        Enumerable.of(list).filter(value -> value.length() > 2).map(String::length).forEachIndexed((index, length) -> sum[0] += index + length);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long streamOperators() {
+        return Enumerable.of(list).stream()
+                .filter(tuple -> tuple.second().length() > 2)
+                .map(tuple -> Tuple.of(tuple.first(), tuple.second().length()))
+                .mapToLong(tuple -> tuple.first() + tuple.second())
+                .sum();
+    }
+
+    @Benchmark
+    public long stream() {
+        return Enumerable.of(list).stream().mapToLong(tuple -> tuple.first() + tuple.second().length()).sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return Enumerable.of(list).parallelStream().mapToLong(tuple -> tuple.first() + tuple.second().length()).sum();
+    }
+}
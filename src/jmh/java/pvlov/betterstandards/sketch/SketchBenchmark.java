@@ -0,0 +1,80 @@
+package pvlov.betterstandards.sketch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SketchBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private long[] hashes;
+    private Long[] values;
+    private double[] samples;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        hashes = random.longs(SIZE).toArray();
+        values = random.longs(SIZE, 0, SIZE / 4).boxed().toArray(Long[]::new);
+        samples = random.doubles(SIZE).toArray();
+    }
+
+    @Benchmark
+    public long hyperLogLog() {
+        final HyperLogLog<Long> sketch = new HyperLogLog<>();
+        for (final long hash : hashes) {
+            sketch.addHash(hash);
+        }
+        return sketch.count();
+    }
+
+    @Benchmark
+    public int hashSetDistinct() {
+        final Set<Long> distinct = new HashSet<>();
+        for (final Long value : values) {
+            distinct.add(value);
+        }
+        return distinct.size();
+    }
+
+    @Benchmark
+    public double kllQuantile() {
+        return new KllSketch().addAll(samples).quantile(0.99);
+    }
+
+    @Benchmark
+    public double sortQuantile() {
+        final double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) (0.99 * (sorted.length - 1))];
+    }
+
+    @Benchmark
+    public long heavyHitters() {
+        final HeavyHitters<Long> sketch = new HeavyHitters<>(100);
+        for (final Long value : values) {
+            sketch.add(value);
+        }
+        return sketch.topK(10).get(0).first();
+    }
+}
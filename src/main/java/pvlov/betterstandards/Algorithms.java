@@ -1,7 +1,28 @@
 package pvlov.betterstandards;
 
+import pvlov.betterstandards.container.tuples.DoubleDoubleTuple;
+import pvlov.betterstandards.container.tuples.IntIntTuple;
+import pvlov.betterstandards.container.tuples.LongLongTuple;
+import pvlov.betterstandards.container.tuples.Tuple;
+import pvlov.betterstandards.iterator.Cursor;
+import pvlov.betterstandards.iterator.Enumerable;
+import pvlov.betterstandards.iterator.Enumerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
 
 public class Algorithms {
 
@@ -49,4 +70,428 @@ public class Algorithms {
         }
        return Optional.of(min);
     }
+
+    @SafeVarargs
+    public static <T> Optional<T> max(final Comparator<T> comparator, final T... objects) {
+        if (objects.length == 0) {
+            return Optional.empty();
+        }
+
+        T max = objects[0];
+
+        for (int i = 1; i < objects.length; ++i) {
+            if (comparator.compare(objects[i], max) > 0) {
+                max = objects[i];
+            }
+        }
+        return Optional.of(max);
+    }
+
+    public static <T extends Comparable<? super T>> Optional<T> min(final Iterable<T> objects) {
+        return min(Comparator.naturalOrder(), objects);
+    }
+
+    public static <T extends Comparable<? super T>> Optional<T> max(final Iterable<T> objects) {
+        return max(Comparator.naturalOrder(), objects);
+    }
+
+    public static <T> Optional<T> min(final Comparator<? super T> comparator, final Iterable<T> objects) {
+        final Iterator<T> iterator = objects.iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+
+        T min = iterator.next();
+        while (iterator.hasNext()) {
+            final T obj = iterator.next();
+            if (comparator.compare(obj, min) < 0) {
+                min = obj;
+            }
+        }
+        return Optional.of(min);
+    }
+
+    public static <T> Optional<T> max(final Comparator<? super T> comparator, final Iterable<T> objects) {
+        final Iterator<T> iterator = objects.iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+
+        T max = iterator.next();
+        while (iterator.hasNext()) {
+            final T obj = iterator.next();
+            if (comparator.compare(obj, max) > 0) {
+                max = obj;
+            }
+        }
+        return Optional.of(max);
+    }
+
+    /**
+     * Finds the minimum and the maximum in a single pass. The elements are compared in pairs first, so only the smaller
+     * one of each pair is compared to the current minimum and only the larger one to the current maximum, which takes
+     * about 1.5 comparisons per element instead of 2. On ties the first occurrence wins, like in {@link #min(Comparable[])}
+     * and {@link #max(Comparable[])}.
+     *
+     * @return a Tuple of the minimum and the maximum, or an empty Optional if there are no elements
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T extends Comparable<? super T>> Optional<Tuple<T, T>> minMax(final T... objects) {
+        return minMax(Comparator.naturalOrder(), Arrays.asList(objects));
+    }
+
+    public static <T extends Comparable<? super T>> Optional<Tuple<T, T>> minMax(final Iterable<T> objects) {
+        return minMax(Comparator.naturalOrder(), objects);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Optional<Tuple<T, T>> minMax(final Comparator<? super T> comparator, final T... objects) {
+        return minMax(comparator, Arrays.asList(objects));
+    }
+
+    public static <T> Optional<Tuple<T, T>> minMax(final Comparator<? super T> comparator, final Iterable<T> objects) {
+        final Iterator<T> iterator = objects.iterator();
+        if (!iterator.hasNext()) {
+            return Optional.empty();
+        }
+
+        T min = iterator.next();
+        T max = min;
+        while (iterator.hasNext()) {
+            final T first = iterator.next();
+            if (!iterator.hasNext()) {
+                if (comparator.compare(first, min) < 0) {
+                    min = first;
+                } else if (comparator.compare(first, max) > 0) {
+                    max = first;
+                }
+                break;
+            }
+            final T second = iterator.next();
+            final int order = comparator.compare(first, second);
+            final T smaller = order > 0 ? second : first;
+            final T larger = order >= 0 ? first : second;
+            if (comparator.compare(smaller, min) < 0) {
+                min = smaller;
+            }
+            if (comparator.compare(larger, max) > 0) {
+                max = larger;
+            }
+        }
+        return Optional.of(Tuple.of(min, max));
+    }
+
+    /**
+     * Finds the k largest elements using a heap bounded to k elements, so it takes O(n log k) time and O(k) memory
+     * instead of sorting all elements.
+     *
+     * @return the k largest elements, largest first. Fewer if there are fewer than k elements.
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T> List<T> topK(final Comparator<? super T> comparator, final Iterable<T> objects, final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        // k is only an upper bound, so the heap is sized from the input where known and grows on demand otherwise
+        final PriorityQueue<T> heap = objects instanceof Collection<?> collection
+                ? new PriorityQueue<>(Math.max(1, Math.min(k, collection.size())), comparator)
+                : new PriorityQueue<>(comparator);
+        for (final T obj : objects) {
+            if (heap.size() < k) {
+                heap.offer(obj);
+            } else if (comparator.compare(obj, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(obj);
+            }
+        }
+
+        final List<T> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            top.add(heap.poll());
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    public static <T> List<T> topK(final Comparator<? super T> comparator, final T[] objects, final int k) {
+        return topK(comparator, Arrays.asList(objects), k);
+    }
+
+    /**
+     * Finds the k smallest elements, see {@link #topK(Comparator, Iterable, int)}.
+     *
+     * @return the k smallest elements, smallest first. Fewer if there are fewer than k elements.
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static <T> List<T> bottomK(final Comparator<? super T> comparator, final Iterable<T> objects, final int k) {
+        return topK(Collections.reverseOrder(comparator), objects, k);
+    }
+
+    public static <T> List<T> bottomK(final Comparator<? super T> comparator, final T[] objects, final int k) {
+        return bottomK(comparator, Arrays.asList(objects), k);
+    }
+
+    /**
+     * Returns the element that would be at index n if the List was sorted. Like C++'s std::nth_element this partially
+     * reorders the List in place: afterwards the element at index n is the one returned, no element before it is greater
+     * and no element after it is smaller. Uses introselect, i.e. quickselect with median-of-three pivots and three-way
+     * partitioning (so duplicates do not degrade it) that falls back to sorting the remaining range if partitioning
+     * degenerates. It runs in O(n) on average and O(n log n) at worst. A List without {@link RandomAccess}, e.g. a
+     * LinkedList, is copied into an array for the selection and updated afterwards, since indexed access into it
+     * would make every step linear.
+     *
+     * @return the n-th smallest element (zero-based)
+     * @throws IndexOutOfBoundsException if n is not a valid index into the List
+     */
+    public static <T> T nthElement(final Comparator<? super T> comparator, final List<T> objects, final int n) {
+        Objects.checkIndex(n, objects.size());
+        if (!(objects instanceof RandomAccess)) {
+            @SuppressWarnings("unchecked") final T[] copy = (T[]) objects.toArray();
+            final T nth = nthElement(comparator, Arrays.asList(copy), n);
+            final ListIterator<T> iterator = objects.listIterator();
+            for (final T element : copy) {
+                iterator.next();
+                iterator.set(element);
+            }
+            return nth;
+        }
+
+        int lo = 0;
+        int hi = objects.size() - 1;
+        int depthLimit = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(objects.size()));
+        while (hi > lo) {
+            if (depthLimit-- == 0) {
+                objects.subList(lo, hi + 1).sort(comparator);
+                break;
+            }
+
+            // afterwards [lo, lt) < pivot, [lt, gt] == pivot and (gt, hi] > pivot
+            final T pivot = medianOfThree(comparator, objects.get(lo), objects.get((lo + hi) >>> 1), objects.get(hi));
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                final int order = comparator.compare(objects.get(i), pivot);
+                if (order < 0) {
+                    Collections.swap(objects, lt++, i++);
+                } else if (order > 0) {
+                    Collections.swap(objects, i, gt--);
+                } else {
+                    ++i;
+                }
+            }
+
+            if (n < lt) {
+                hi = lt - 1;
+            } else if (n > gt) {
+                lo = gt + 1;
+            } else {
+                break;
+            }
+        }
+        return objects.get(n);
+    }
+
+    /**
+     * Array version of {@link #nthElement(Comparator, List, int)}, reorders the array in place.
+     */
+    public static <T> T nthElement(final Comparator<? super T> comparator, final T[] objects, final int n) {
+        return nthElement(comparator, Arrays.asList(objects), n);
+    }
+
+    /**
+     * Returns the lower median, i.e. the element at index (size - 1) / 2 in sorted order, see {@link #nthElement(Comparator, List, int)}.
+     * Reorders the List in place.
+     *
+     * @return the lower median, or an empty Optional if the List is empty
+     */
+    public static <T> Optional<T> median(final Comparator<? super T> comparator, final List<T> objects) {
+        if (objects.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(nthElement(comparator, objects, (objects.size() - 1) / 2));
+    }
+
+    public static <T> Optional<T> median(final Comparator<? super T> comparator, final T[] objects) {
+        return median(comparator, Arrays.asList(objects));
+    }
+
+    /**
+     * Lazily merges Iterables that are each sorted according to the given comparator into a single sorted Iterable.
+     * Uses a heap over the current heads of the sources, so iterating all n elements of k sources takes O(n log k) time and
+     * O(k) memory. Sources are only advanced as far as the merged Iterable is consumed, so stopping early is cheap.
+     * Equal elements keep the order of their sources.
+     *
+     * @param comparator the order the sources are sorted in
+     * @param sources    the sorted sources
+     * @return a lazily merged, sorted Iterable
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Iterable<T> merge(final Comparator<? super T> comparator, final Iterable<? extends T>... sources) {
+        return merge(comparator, Arrays.asList(sources));
+    }
+
+    public static <T> Iterable<T> merge(final Comparator<? super T> comparator, final List<? extends Iterable<? extends T>> sources) {
+        return () -> new MergingIterator<>(comparator, sources, false);
+    }
+
+    /**
+     * Like {@link #merge(Comparator, Iterable[])}, but of all elements that compare equal only the first one is returned.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Iterable<T> mergeDistinct(final Comparator<? super T> comparator, final Iterable<? extends T>... sources) {
+        return mergeDistinct(comparator, Arrays.asList(sources));
+    }
+
+    public static <T> Iterable<T> mergeDistinct(final Comparator<? super T> comparator, final List<? extends Iterable<? extends T>> sources) {
+        return () -> new MergingIterator<>(comparator, sources, true);
+    }
+
+    /**
+     * Like {@link #merge(Comparator, Iterable[])}, but enumerates the merged elements together with the number of the source
+     * they came from (zero-based, in argument order) instead of their position in the merged sequence.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Enumerable<T> mergeEnumerated(final Comparator<? super T> comparator, final Iterable<? extends T>... sources) {
+        return mergeEnumerated(comparator, Arrays.asList(sources));
+    }
+
+    public static <T> Enumerable<T> mergeEnumerated(final Comparator<? super T> comparator, final List<? extends Iterable<? extends T>> sources) {
+        return () -> {
+            final MergingIterator<T> merged = new MergingIterator<>(comparator, sources, false);
+            return new Enumerator<>() {
+                @Override
+                public boolean hasNext() {
+                    return merged.hasNext();
+                }
+
+                @Override
+                public Tuple<Integer, T> next() {
+                    final T value = merged.next();
+                    return Tuple.of(merged.lastSource(), value);
+                }
+
+                @Override
+                public Cursor<T> cursor() {
+                    return new Cursor<>() {
+                        T value;
+
+                        @Override
+                        public boolean advance() {
+                            if (!merged.hasNext()) {
+                                return false;
+                            }
+                            value = merged.next();
+                            return true;
+                        }
+
+                        @Override
+                        public int index() {
+                            return merged.lastSource();
+                        }
+
+                        @Override
+                        public T value() {
+                            return value;
+                        }
+                    };
+                }
+            };
+        };
+    }
+
+    /*
+     * Primitive array reductions. They never box the elements, and arrays with at least as many elements as the system
+     * property pvlov.betterstandards.algorithms.parallelThreshold (default 2^20) are reduced in parallel on the common
+     * ForkJoinPool. Double values are ordered like Double.compare, so NaN is greater than every other value.
+     * Ties in argMin/argMax resolve to the lowest index, and minMax returns both results unboxed in a primitive tuple.
+     */
+
+    public static OptionalInt min(final int[] values) {
+        return PrimitiveReductions.min(values);
+    }
+
+    public static OptionalInt max(final int[] values) {
+        return PrimitiveReductions.max(values);
+    }
+
+    public static Optional<IntIntTuple> minMax(final int[] values) {
+        return PrimitiveReductions.minMax(values);
+    }
+
+    public static long sum(final int[] values) {
+        return PrimitiveReductions.sum(values);
+    }
+
+    public static OptionalInt argMin(final int[] values) {
+        return PrimitiveReductions.argMin(values);
+    }
+
+    public static OptionalInt argMax(final int[] values) {
+        return PrimitiveReductions.argMax(values);
+    }
+
+    public static OptionalLong min(final long[] values) {
+        return PrimitiveReductions.min(values);
+    }
+
+    public static OptionalLong max(final long[] values) {
+        return PrimitiveReductions.max(values);
+    }
+
+    public static Optional<LongLongTuple> minMax(final long[] values) {
+        return PrimitiveReductions.minMax(values);
+    }
+
+    public static long sum(final long[] values) {
+        return PrimitiveReductions.sum(values);
+    }
+
+    public static OptionalInt argMin(final long[] values) {
+        return PrimitiveReductions.argMin(values);
+    }
+
+    public static OptionalInt argMax(final long[] values) {
+        return PrimitiveReductions.argMax(values);
+    }
+
+    public static OptionalDouble min(final double[] values) {
+        return PrimitiveReductions.min(values);
+    }
+
+    public static OptionalDouble max(final double[] values) {
+        return PrimitiveReductions.max(values);
+    }
+
+    public static Optional<DoubleDoubleTuple> minMax(final double[] values) {
+        return PrimitiveReductions.minMax(values);
+    }
+
+    public static double sum(final double[] values) {
+        return PrimitiveReductions.sum(values);
+    }
+
+    public static OptionalInt argMin(final double[] values) {
+        return PrimitiveReductions.argMin(values);
+    }
+
+    public static OptionalInt argMax(final double[] values) {
+        return PrimitiveReductions.argMax(values);
+    }
+
+    private static <T> T medianOfThree(final Comparator<? super T> comparator, final T a, final T b, final T c) {
+        if (comparator.compare(a, b) < 0) {
+            return comparator.compare(b, c) < 0 ? b : comparator.compare(a, c) < 0 ? c : a;
+        }
+        return comparator.compare(a, c) < 0 ? a : comparator.compare(b, c) < 0 ? c : b;
+    }
 }
@@ -0,0 +1,115 @@
+package pvlov.betterstandards;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily merges sorted Iterators. The current head of every source is kept in a binary min-heap of source numbers,
+ * so every element costs O(log k) comparisons for k sources and the merge needs O(k) memory regardless of the
+ * length of the sources. Equal elements are returned in the order of their sources, which keeps the merge stable.
+ */
+final class MergingIterator<T> implements Iterator<T> {
+
+    private final Comparator<? super T> comparator;
+    // the heads are stored as Objects anyway, so the sources need no element type
+    private final Iterator<?>[] sources;
+    private final Object[] heads;
+    private final int[] heap;
+    private final boolean distinct;
+    private int size;
+    private T last;
+    private boolean hasLast;
+    private int lastSource = -1;
+
+    MergingIterator(final Comparator<? super T> comparator, final List<? extends Iterable<? extends T>> sources, final boolean distinct) {
+        this.comparator = comparator;
+        this.sources = new Iterator<?>[sources.size()];
+        this.heads = new Object[sources.size()];
+        this.heap = new int[sources.size()];
+        this.distinct = distinct;
+        for (int source = 0; source < this.sources.length; ++source) {
+            this.sources[source] = sources.get(source).iterator();
+            if (this.sources[source].hasNext()) {
+                heads[source] = this.sources[source].next();
+                heap[size++] = source;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; --i) {
+            siftDown(i);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (distinct && hasLast) {
+            while (size > 0 && comparator.compare(head(heap[0]), last) == 0) {
+                pop();
+            }
+        }
+        return size > 0;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        lastSource = heap[0];
+        last = head(lastSource);
+        hasLast = true;
+        pop();
+        return last;
+    }
+
+    /**
+     * @return the number of the source the element last returned by {@link #next()} came from
+     */
+    int lastSource() {
+        return lastSource;
+    }
+
+    /**
+     * Replaces the smallest head by the next element of its source, or removes the source if it is exhausted.
+     */
+    private void pop() {
+        final int source = heap[0];
+        if (sources[source].hasNext()) {
+            heads[source] = sources[source].next();
+        } else {
+            heads[source] = null;
+            heap[0] = heap[--size];
+        }
+        siftDown(0);
+    }
+
+    private void siftDown(int i) {
+        final int source = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                ++child;
+            }
+            if (!less(heap[child], source)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = source;
+    }
+
+    private boolean less(final int a, final int b) {
+        final int order = comparator.compare(head(a), head(b));
+        return order < 0 || (order == 0 && a < b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T head(final int source) {
+        return (T) heads[source];
+    }
+}
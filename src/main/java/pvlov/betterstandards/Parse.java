@@ -0,0 +1,423 @@
+package pvlov.betterstandards;
+
+import pvlov.betterstandards.container.result.DoubleErr;
+import pvlov.betterstandards.container.result.DoubleOk;
+import pvlov.betterstandards.container.result.DoubleResult;
+import pvlov.betterstandards.container.result.Err;
+import pvlov.betterstandards.container.result.IntErr;
+import pvlov.betterstandards.container.result.IntOk;
+import pvlov.betterstandards.container.result.IntResult;
+import pvlov.betterstandards.container.result.LongErr;
+import pvlov.betterstandards.container.result.LongOk;
+import pvlov.betterstandards.container.result.LongResult;
+import pvlov.betterstandards.container.result.Ok;
+import pvlov.betterstandards.container.result.Result;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Parsers that report invalid input as a {@link ParseError} instead of throwing. Unlike wrapping
+ * {@link Integer#parseInt(String)} in {@link Result#of(java.util.function.Supplier)}, rejecting input costs about as
+ * much as accepting it, since no exception and no stack trace is ever created.
+ * <p>
+ * Every parser accepts a region of a CharSequence, so tokens of a larger buffer can be parsed without copying them into
+ * Strings first. The parsers are strict: surrounding whitespace is rejected, as is everything else the corresponding
+ * JDK method would reject.
+ */
+public final class Parse {
+
+    private static final Result<Boolean, ParseError> TRUE = Ok.of(Boolean.TRUE);
+    private static final Result<Boolean, ParseError> FALSE = Ok.of(Boolean.FALSE);
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final ClassValue<Enum<?>[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Enum<?>[] computeValue(final Class<?> type) {
+            return (Enum<?>[]) type.getEnumConstants();
+        }
+    };
+
+    private Parse() {
+    }
+
+    public static IntResult<ParseError> parseInt(final CharSequence input) {
+        return parseInt(input, 0, input.length(), 10);
+    }
+
+    public static IntResult<ParseError> parseInt(final CharSequence input, final int offset, final int length) {
+        return parseInt(input, offset, length, 10);
+    }
+
+    /**
+     * Exception-free version of {@link Integer#parseInt(CharSequence, int, int, int)}.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @param radix  the radix, between {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}
+     * @return an {@link IntOk} holding the parsed value, or an {@link IntErr} holding the reason the input was rejected
+     * @throws IndexOutOfBoundsException if the region lies outside of the input
+     * @throws IllegalArgumentException  if the radix is out of range
+     */
+    public static IntResult<ParseError> parseInt(final CharSequence input, final int offset, final int length, final int radix) {
+        checkRadix(radix);
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return IntErr.of(ParseError.EMPTY);
+        }
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        final char first = input.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                return IntErr.of(ParseError.INVALID_FORMAT);
+            }
+        }
+        // accumulate negatively, since the negative range is larger than the positive one
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multiplicationLimit = limit / radix;
+        int result = 0;
+        while (i < end) {
+            final int digit = Character.digit(input.charAt(i++), radix);
+            if (digit < 0) {
+                return IntErr.of(ParseError.INVALID_CHARACTER);
+            }
+            if (result < multiplicationLimit || result * radix < limit + digit) {
+                return IntErr.of(scanRest(input, i, end, radix));
+            }
+            result = result * radix - digit;
+        }
+        return IntOk.of(negative ? result : -result);
+    }
+
+    public static LongResult<ParseError> parseLong(final CharSequence input) {
+        return parseLong(input, 0, input.length(), 10);
+    }
+
+    public static LongResult<ParseError> parseLong(final CharSequence input, final int offset, final int length) {
+        return parseLong(input, offset, length, 10);
+    }
+
+    /**
+     * Exception-free version of {@link Long#parseLong(CharSequence, int, int, int)}.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @param radix  the radix, between {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}
+     * @return a {@link LongOk} holding the parsed value, or a {@link LongErr} holding the reason the input was rejected
+     * @throws IndexOutOfBoundsException if the region lies outside of the input
+     * @throws IllegalArgumentException  if the radix is out of range
+     */
+    public static LongResult<ParseError> parseLong(final CharSequence input, final int offset, final int length, final int radix) {
+        checkRadix(radix);
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return LongErr.of(ParseError.EMPTY);
+        }
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        final char first = input.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                return LongErr.of(ParseError.INVALID_FORMAT);
+            }
+        }
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplicationLimit = limit / radix;
+        long result = 0;
+        while (i < end) {
+            final int digit = Character.digit(input.charAt(i++), radix);
+            if (digit < 0) {
+                return LongErr.of(ParseError.INVALID_CHARACTER);
+            }
+            if (result < multiplicationLimit || result * radix < limit + digit) {
+                return LongErr.of(scanRest(input, i, end, radix));
+            }
+            result = result * radix - digit;
+        }
+        return LongOk.of(negative ? result : -result);
+    }
+
+    public static DoubleResult<ParseError> parseDouble(final CharSequence input) {
+        return parseDouble(input, 0, input.length());
+    }
+
+    /**
+     * Exception-free version of {@link Double#parseDouble(String)} for decimal input, e.g. {@code -12.5e-3}, as well as
+     * {@code NaN} and {@code Infinity}. Hexadecimal floating point literals and the type suffixes {@code d} and
+     * {@code f} are not accepted. The result is correctly rounded: inputs with up to 15 significant digits and small
+     * exponents are converted directly, all other valid inputs are handed to {@link Double#parseDouble(String)} after
+     * validation, so that it cannot throw.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return a {@link DoubleOk} holding the parsed value, or a {@link DoubleErr} holding the reason the input was rejected
+     * @throws IndexOutOfBoundsException if the region lies outside of the input
+     */
+    public static DoubleResult<ParseError> parseDouble(final CharSequence input, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return DoubleErr.of(ParseError.EMPTY);
+        }
+        final int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (input.charAt(i) == '-' || input.charAt(i) == '+') {
+            negative = input.charAt(i++) == '-';
+            if (i == end) {
+                return DoubleErr.of(ParseError.INVALID_FORMAT);
+            }
+        }
+        if (input.charAt(i) == 'N' || input.charAt(i) == 'I') {
+            if (regionEquals(input, i, end, "NaN")) {
+                return DoubleOk.of(Double.NaN);
+            }
+            if (regionEquals(input, i, end, "Infinity")) {
+                return DoubleOk.of(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+            }
+            return DoubleErr.of(ParseError.INVALID_CHARACTER);
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        int digits = 0;
+        for (; i < end && isDecimalDigit(input.charAt(i)); ++i, ++digits) {
+            final int digit = input.charAt(i) - '0';
+            if (mantissa == 0 && digit == 0) {
+                continue;
+            }
+            if (significantDigits < 18) {
+                mantissa = mantissa * 10 + digit;
+                ++significantDigits;
+            } else {
+                ++exponent;
+                truncated |= digit != 0;
+            }
+        }
+        if (i < end && input.charAt(i) == '.') {
+            for (++i; i < end && isDecimalDigit(input.charAt(i)); ++i, ++digits) {
+                final int digit = input.charAt(i) - '0';
+                if (mantissa == 0 && digit == 0) {
+                    --exponent;
+                } else if (significantDigits < 18) {
+                    mantissa = mantissa * 10 + digit;
+                    ++significantDigits;
+                    --exponent;
+                } else {
+                    truncated |= digit != 0;
+                }
+            }
+        }
+        if (digits == 0) {
+            return DoubleErr.of(i < end && input.charAt(i) != 'e' && input.charAt(i) != 'E' ? ParseError.INVALID_CHARACTER : ParseError.INVALID_FORMAT);
+        }
+        if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            if (++i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                ++i;
+            }
+            final boolean negativeExponent = input.charAt(i - 1) == '-';
+            if (i == end) {
+                return DoubleErr.of(ParseError.INVALID_FORMAT);
+            }
+            int explicitExponent = 0;
+            for (; i < end; ++i) {
+                if (!isDecimalDigit(input.charAt(i))) {
+                    return DoubleErr.of(ParseError.INVALID_CHARACTER);
+                }
+                // saturate, anything beyond this is zero or infinite anyway
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + input.charAt(i) - '0';
+                }
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != end) {
+            return DoubleErr.of(ParseError.INVALID_CHARACTER);
+        }
+
+        final double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (!truncated && mantissa < 1L << 53 && exponent >= -22 && exponent <= 22) {
+            // both operands are exact, so the single rounding of the division or multiplication is correct
+            value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        } else {
+            return DoubleOk.of(Double.parseDouble(input.subSequence(offset, end).toString()));
+        }
+        return DoubleOk.of(negative ? -value : value);
+    }
+
+    public static Result<Boolean, ParseError> parseBoolean(final CharSequence input) {
+        return parseBoolean(input, 0, input.length());
+    }
+
+    /**
+     * Unlike {@link Boolean#parseBoolean(String)}, which maps everything but "true" to false, only "true" and "false"
+     * (ignoring case) are accepted.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return an {@link Ok} holding the parsed value, or an {@link Err} holding the reason the input was rejected
+     * @throws IndexOutOfBoundsException if the region lies outside of the input
+     */
+    public static Result<Boolean, ParseError> parseBoolean(final CharSequence input, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return Err.of(ParseError.EMPTY);
+        }
+        if (regionEqualsIgnoreCase(input, offset, offset + length, "true")) {
+            return TRUE;
+        }
+        if (regionEqualsIgnoreCase(input, offset, offset + length, "false")) {
+            return FALSE;
+        }
+        return Err.of(ParseError.UNKNOWN_NAME);
+    }
+
+    public static Result<UUID, ParseError> parseUuid(final CharSequence input) {
+        return parseUuid(input, 0, input.length());
+    }
+
+    /**
+     * Parses the canonical 36 character form of a UUID, e.g. {@code 123e4567-e89b-12d3-a456-426614174000}, in upper or
+     * lower case. Unlike {@link UUID#fromString(String)}, shortened groups are not accepted.
+     *
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return an {@link Ok} holding the parsed UUID, or an {@link Err} holding the reason the input was rejected
+     * @throws IndexOutOfBoundsException if the region lies outside of the input
+     */
+    public static Result<UUID, ParseError> parseUuid(final CharSequence input, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return Err.of(ParseError.EMPTY);
+        }
+        if (length != 36) {
+            return Err.of(ParseError.INVALID_FORMAT);
+        }
+        long mostSignificant = 0;
+        long leastSignificant = 0;
+        for (int i = 0; i < 36; ++i) {
+            final char c = input.charAt(offset + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return Err.of(ParseError.INVALID_CHARACTER);
+                }
+                continue;
+            }
+            final int digit = hexDigit(c);
+            if (digit < 0) {
+                return Err.of(ParseError.INVALID_CHARACTER);
+            }
+            if (i < 18) {
+                mostSignificant = mostSignificant << 4 | digit;
+            } else {
+                leastSignificant = leastSignificant << 4 | digit;
+            }
+        }
+        return Ok.of(new UUID(mostSignificant, leastSignificant));
+    }
+
+    public static <E extends Enum<E>> Result<E, ParseError> parseEnum(final Class<E> type, final CharSequence input) {
+        return parseEnum(type, input, 0, input.length());
+    }
+
+    /**
+     * Exception-free version of {@link Enum#valueOf(Class, String)}, which compares the region to the constant names
+     * in place instead of creating a String for the lookup.
+     *
+     * @param type   the enum class
+     * @param input  the characters to parse
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse
+     * @return an {@link Ok} holding the constant with exactly the given name, or an {@link Err} holding the reason the
+     * input was rejected
+     * @throws IndexOutOfBoundsException if the region lies outside of the input
+     */
+    public static <E extends Enum<E>> Result<E, ParseError> parseEnum(final Class<E> type, final CharSequence input, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return Err.of(ParseError.EMPTY);
+        }
+        for (final Enum<?> constant : ENUM_CONSTANTS.get(type)) {
+            if (regionEquals(input, offset, offset + length, constant.name())) {
+                return Ok.of(type.cast(constant));
+            }
+        }
+        return Err.of(ParseError.UNKNOWN_NAME);
+    }
+
+    private static void checkRadix(final int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("Radix must be between " + Character.MIN_RADIX + " and " + Character.MAX_RADIX + ": " + radix);
+        }
+    }
+
+    /**
+     * Distinguishes a number that is too large from one that is too large and malformed, which is reported as malformed.
+     */
+    private static ParseError scanRest(final CharSequence input, final int from, final int end, final int radix) {
+        for (int i = from; i < end; ++i) {
+            if (Character.digit(input.charAt(i), radix) < 0) {
+                return ParseError.INVALID_CHARACTER;
+            }
+        }
+        return ParseError.OVERFLOW;
+    }
+
+    private static boolean isDecimalDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(final CharSequence input, final int from, final int end, final String expected) {
+        if (end - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); ++i) {
+            if (input.charAt(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionEqualsIgnoreCase(final CharSequence input, final int from, final int end, final String expected) {
+        if (end - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); ++i) {
+            if (Character.toLowerCase(input.charAt(from + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
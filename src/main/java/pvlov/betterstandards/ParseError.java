@@ -0,0 +1,28 @@
+package pvlov.betterstandards;
+
+/**
+ * The reasons a {@link Parse} function rejects its input. Being enum constants, they are returned without allocating
+ * an exception or a new Err.
+ */
+public enum ParseError {
+    /**
+     * The input is empty.
+     */
+    EMPTY,
+    /**
+     * The input contains a character that is not allowed at its position.
+     */
+    INVALID_CHARACTER,
+    /**
+     * The input is structurally incomplete, e.g. a lone sign, a missing exponent or a UUID of the wrong length.
+     */
+    INVALID_FORMAT,
+    /**
+     * The input is a well-formed number that does not fit into the target type.
+     */
+    OVERFLOW,
+    /**
+     * The input does not match any of the accepted names.
+     */
+    UNKNOWN_NAME
+}
@@ -0,0 +1,528 @@
+package pvlov.betterstandards;
+
+import pvlov.betterstandards.container.tuples.DoubleDoubleTuple;
+import pvlov.betterstandards.container.tuples.IntIntTuple;
+import pvlov.betterstandards.container.tuples.LongLongTuple;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * The primitive array reductions behind {@link Algorithms}. The kernels keep four independent accumulators, which breaks
+ * the dependency chain between iterations. Arrays with at least {@link #PARALLEL_THRESHOLD} elements are split into
+ * ranges that are reduced in parallel on the common ForkJoinPool.
+ * Double values are ordered like {@link Double#compare(double, double)}, i.e. NaN is greater than every other value.
+ */
+final class PrimitiveReductions {
+
+    static final String PARALLEL_THRESHOLD_PROPERTY = "pvlov.betterstandards.algorithms.parallelThreshold";
+
+    static final int PARALLEL_THRESHOLD = Math.max(2, Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 1 << 20));
+
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private PrimitiveReductions() {
+    }
+
+    @FunctionalInterface
+    private interface RangeReducer<R> {
+        R reduce(final int from, final int to);
+    }
+
+    private static <R> R reduce(final int length, final RangeReducer<R> reducer, final BinaryOperator<R> combiner) {
+        if (length < PARALLEL_THRESHOLD) {
+            return reducer.reduce(0, length);
+        }
+        final int chunk = Math.max(MIN_CHUNK, length / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        return ForkJoinPool.commonPool().invoke(new ReduceTask<>(reducer, combiner, 0, length, chunk));
+    }
+
+    private static final class ReduceTask<R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RangeReducer<R> reducer;
+        private final BinaryOperator<R> combiner;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        private ReduceTask(final RangeReducer<R> reducer, final BinaryOperator<R> combiner, final int from, final int to, final int chunk) {
+            this.reducer = reducer;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= chunk) {
+                return reducer.reduce(from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final ReduceTask<R> left = new ReduceTask<>(reducer, combiner, from, mid, chunk);
+            left.fork();
+            final R right = new ReduceTask<>(reducer, combiner, mid, to, chunk).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+
+    // int
+
+    static OptionalInt min(final int[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> min(values, from, to), (a, b) -> Math.min(a, b)));
+    }
+
+    static OptionalInt max(final int[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> max(values, from, to), (a, b) -> Math.max(a, b)));
+    }
+
+    static Optional<IntIntTuple> minMax(final int[] values) {
+        if (values.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(reduce(values.length, (from, to) -> minMax(values, from, to),
+                (a, b) -> IntIntTuple.of(Math.min(a.first(), b.first()), Math.max(a.second(), b.second()))));
+    }
+
+    static long sum(final int[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        return reduce(values.length, (from, to) -> sum(values, from, to), Long::sum);
+    }
+
+    static OptionalInt argMin(final int[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> argMin(values, from, to),
+                (a, b) -> values[b] < values[a] ? b : a));
+    }
+
+    static OptionalInt argMax(final int[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> argMax(values, from, to),
+                (a, b) -> values[b] > values[a] ? b : a));
+    }
+
+    private static int min(final int[] values, final int from, final int to) {
+        int m0 = values[from];
+        int m1 = m0;
+        int m2 = m0;
+        int m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < to; ++i) {
+            m0 = Math.min(m0, values[i]);
+        }
+        m0 = Math.min(m0, m1);
+        m2 = Math.min(m2, m3);
+        return Math.min(m0, m2);
+    }
+
+    private static int max(final int[] values, final int from, final int to) {
+        int m0 = values[from];
+        int m1 = m0;
+        int m2 = m0;
+        int m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < to; ++i) {
+            m0 = Math.max(m0, values[i]);
+        }
+        m0 = Math.max(m0, m1);
+        m2 = Math.max(m2, m3);
+        return Math.max(m0, m2);
+    }
+
+    private static IntIntTuple minMax(final int[] values, final int from, final int to) {
+        int min = values[from];
+        int max = min;
+        int i = from + 1;
+        for (; i + 1 < to; i += 2) {
+            final int first = values[i];
+            final int second = values[i + 1];
+            if (first > second) {
+                min = Math.min(min, second);
+                max = Math.max(max, first);
+            } else {
+                min = Math.min(min, first);
+                max = Math.max(max, second);
+            }
+        }
+        if (i < to) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        return IntIntTuple.of(min, max);
+    }
+
+    private static long sum(final int[] values, final int from, final int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; ++i) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static int argMin(final int[] values, final int from, final int to) {
+        int index = from;
+        int min = values[from];
+        for (int i = from + 1; i < to; ++i) {
+            if (values[i] < min) {
+                min = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private static int argMax(final int[] values, final int from, final int to) {
+        int index = from;
+        int max = values[from];
+        for (int i = from + 1; i < to; ++i) {
+            if (values[i] > max) {
+                max = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    // long
+
+    static OptionalLong min(final long[] values) {
+        if (values.length == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(reduce(values.length, (from, to) -> min(values, from, to), (a, b) -> Math.min(a, b)));
+    }
+
+    static OptionalLong max(final long[] values) {
+        if (values.length == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(reduce(values.length, (from, to) -> max(values, from, to), (a, b) -> Math.max(a, b)));
+    }
+
+    static Optional<LongLongTuple> minMax(final long[] values) {
+        if (values.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(reduce(values.length, (from, to) -> minMax(values, from, to),
+                (a, b) -> LongLongTuple.of(Math.min(a.first(), b.first()), Math.max(a.second(), b.second()))));
+    }
+
+    static long sum(final long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        return reduce(values.length, (from, to) -> sum(values, from, to), Long::sum);
+    }
+
+    static OptionalInt argMin(final long[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> argMin(values, from, to),
+                (a, b) -> values[b] < values[a] ? b : a));
+    }
+
+    static OptionalInt argMax(final long[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> argMax(values, from, to),
+                (a, b) -> values[b] > values[a] ? b : a));
+    }
+
+    private static long min(final long[] values, final int from, final int to) {
+        long m0 = values[from];
+        long m1 = m0;
+        long m2 = m0;
+        long m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < to; ++i) {
+            m0 = Math.min(m0, values[i]);
+        }
+        m0 = Math.min(m0, m1);
+        m2 = Math.min(m2, m3);
+        return Math.min(m0, m2);
+    }
+
+    private static long max(final long[] values, final int from, final int to) {
+        long m0 = values[from];
+        long m1 = m0;
+        long m2 = m0;
+        long m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < to; ++i) {
+            m0 = Math.max(m0, values[i]);
+        }
+        m0 = Math.max(m0, m1);
+        m2 = Math.max(m2, m3);
+        return Math.max(m0, m2);
+    }
+
+    private static LongLongTuple minMax(final long[] values, final int from, final int to) {
+        long min = values[from];
+        long max = min;
+        int i = from + 1;
+        for (; i + 1 < to; i += 2) {
+            final long first = values[i];
+            final long second = values[i + 1];
+            if (first > second) {
+                min = Math.min(min, second);
+                max = Math.max(max, first);
+            } else {
+                min = Math.min(min, first);
+                max = Math.max(max, second);
+            }
+        }
+        if (i < to) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        return LongLongTuple.of(min, max);
+    }
+
+    private static long sum(final long[] values, final int from, final int to) {
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; ++i) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static int argMin(final long[] values, final int from, final int to) {
+        int index = from;
+        long min = values[from];
+        for (int i = from + 1; i < to; ++i) {
+            if (values[i] < min) {
+                min = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private static int argMax(final long[] values, final int from, final int to) {
+        int index = from;
+        long max = values[from];
+        for (int i = from + 1; i < to; ++i) {
+            if (values[i] > max) {
+                max = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    // double
+
+    static OptionalDouble min(final double[] values) {
+        if (values.length == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(reduce(values.length, (from, to) -> min(values, from, to), (a, b) -> (Double.compare(b, a) < 0 ? b : a)));
+    }
+
+    static OptionalDouble max(final double[] values) {
+        if (values.length == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(reduce(values.length, (from, to) -> max(values, from, to), (a, b) -> (Double.compare(b, a) > 0 ? b : a)));
+    }
+
+    static Optional<DoubleDoubleTuple> minMax(final double[] values) {
+        if (values.length == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(reduce(values.length, (from, to) -> minMax(values, from, to),
+                (a, b) -> DoubleDoubleTuple.of((Double.compare(b.first(), a.first()) < 0 ? b.first() : a.first()), (Double.compare(b.second(), a.second()) > 0 ? b.second() : a.second()))));
+    }
+
+    static double sum(final double[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        return reduce(values.length, (from, to) -> sum(values, from, to), Double::sum);
+    }
+
+    static OptionalInt argMin(final double[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> argMin(values, from, to),
+                (a, b) -> Double.compare(values[b], values[a]) < 0 ? b : a));
+    }
+
+    static OptionalInt argMax(final double[] values) {
+        if (values.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduce(values.length, (from, to) -> argMax(values, from, to),
+                (a, b) -> Double.compare(values[b], values[a]) > 0 ? b : a));
+    }
+
+    private static double min(final double[] values, final int from, final int to) {
+        double m0 = values[from];
+        double m1 = m0;
+        double m2 = m0;
+        double m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            m0 = (Double.compare(values[i], m0) < 0 ? values[i] : m0);
+            m1 = (Double.compare(values[i + 1], m1) < 0 ? values[i + 1] : m1);
+            m2 = (Double.compare(values[i + 2], m2) < 0 ? values[i + 2] : m2);
+            m3 = (Double.compare(values[i + 3], m3) < 0 ? values[i + 3] : m3);
+        }
+        for (; i < to; ++i) {
+            m0 = (Double.compare(values[i], m0) < 0 ? values[i] : m0);
+        }
+        m0 = (Double.compare(m1, m0) < 0 ? m1 : m0);
+        m2 = (Double.compare(m3, m2) < 0 ? m3 : m2);
+        return (Double.compare(m2, m0) < 0 ? m2 : m0);
+    }
+
+    private static double max(final double[] values, final int from, final int to) {
+        double m0 = values[from];
+        double m1 = m0;
+        double m2 = m0;
+        double m3 = m0;
+        int i = from + 1;
+        for (; i + 3 < to; i += 4) {
+            m0 = (Double.compare(values[i], m0) > 0 ? values[i] : m0);
+            m1 = (Double.compare(values[i + 1], m1) > 0 ? values[i + 1] : m1);
+            m2 = (Double.compare(values[i + 2], m2) > 0 ? values[i + 2] : m2);
+            m3 = (Double.compare(values[i + 3], m3) > 0 ? values[i + 3] : m3);
+        }
+        for (; i < to; ++i) {
+            m0 = (Double.compare(values[i], m0) > 0 ? values[i] : m0);
+        }
+        m0 = (Double.compare(m1, m0) > 0 ? m1 : m0);
+        m2 = (Double.compare(m3, m2) > 0 ? m3 : m2);
+        return (Double.compare(m2, m0) > 0 ? m2 : m0);
+    }
+
+    private static DoubleDoubleTuple minMax(final double[] values, final int from, final int to) {
+        double min = values[from];
+        double max = min;
+        int i = from + 1;
+        for (; i + 1 < to; i += 2) {
+            final double first = values[i];
+            final double second = values[i + 1];
+            if (Double.compare(first, second) > 0) {
+                min = (Double.compare(second, min) < 0 ? second : min);
+                max = (Double.compare(first, max) > 0 ? first : max);
+            } else {
+                min = (Double.compare(first, min) < 0 ? first : min);
+                max = (Double.compare(second, max) > 0 ? second : max);
+            }
+        }
+        if (i < to) {
+            min = (Double.compare(values[i], min) < 0 ? values[i] : min);
+            max = (Double.compare(values[i], max) > 0 ? values[i] : max);
+        }
+        return DoubleDoubleTuple.of(min, max);
+    }
+
+    private static double sum(final double[] values, final int from, final int to) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; ++i) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static int argMin(final double[] values, final int from, final int to) {
+        int index = from;
+        double min = values[from];
+        for (int i = from + 1; i < to; ++i) {
+            if (Double.compare(values[i], min) < 0) {
+                min = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private static int argMax(final double[] values, final int from, final int to) {
+        int index = from;
+        double max = values[from];
+        for (int i = from + 1; i < to; ++i) {
+            if (Double.compare(values[i], max) > 0) {
+                max = values[i];
+                index = i;
+            }
+        }
+        return index;
+    }
+}
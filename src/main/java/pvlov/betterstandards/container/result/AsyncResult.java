@@ -0,0 +1,294 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.functional.ExceptionallySupplier;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronously computed {@link Result}. An AsyncResult wraps a CompletableFuture that completes with a Result,
+ * so failures of the computation end up as an {@link Err} instead of an exceptionally completed future and
+ * {@link CompletionException}s never have to be unwrapped by hand.
+ * <p>
+ * Unless an Executor is given, computations run on {@link #defaultExecutor()}, which starts a virtual thread per task
+ * if the runtime supports virtual threads and falls back to a cached pool of daemon threads otherwise.
+ *
+ * @param <T> The Ok-Type
+ * @param <E> The Error-Type
+ */
+public final class AsyncResult<T, E> {
+
+    private final CompletableFuture<Result<T, E>> future;
+
+    private AsyncResult(final CompletableFuture<Result<T, E>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Evaluates the supplying function on the {@link #defaultExecutor()}, see {@link Result#of(Supplier)}.
+     *
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @return an AsyncResult completing with the Result of the supplying function
+     */
+    public static <T> AsyncResult<T, RuntimeException> of(final Supplier<? extends T> supplier) {
+        return of(supplier, defaultExecutor());
+    }
+
+    /**
+     * Evaluates the supplying function on the given Executor, see {@link Result#of(Supplier)}.
+     *
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @param executor the Executor to evaluate the supplying function on
+     * @return an AsyncResult completing with the Result of the supplying function
+     */
+    public static <T> AsyncResult<T, RuntimeException> of(final Supplier<? extends T> supplier, final Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.of(supplier), executor));
+    }
+
+    /**
+     * Evaluates the supplying function on the {@link #defaultExecutor()}, see {@link Result#ofChecked(ExceptionallySupplier)}.
+     *
+     * @param supplier the supplying-function that can throw a checked Exception
+     * @return an AsyncResult completing with the Result of the supplying function
+     */
+    public static <T, E extends Throwable> AsyncResult<T, E> ofChecked(final ExceptionallySupplier<? extends T, E> supplier) {
+        return ofChecked(supplier, defaultExecutor());
+    }
+
+    /**
+     * Evaluates the supplying function on the given Executor, see {@link Result#ofChecked(ExceptionallySupplier)}.
+     *
+     * @param supplier the supplying-function that can throw a checked Exception
+     * @param executor the Executor to evaluate the supplying function on
+     * @return an AsyncResult completing with the Result of the supplying function
+     */
+    public static <T, E extends Throwable> AsyncResult<T, E> ofChecked(final ExceptionallySupplier<? extends T, E> supplier, final Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.ofChecked(supplier), executor));
+    }
+
+    /**
+     * Adapts a CompletableFuture. A normal completion becomes an {@link Ok}, an exceptional completion becomes an {@link Err}
+     * holding the actual cause rather than the wrapping {@link CompletionException}. A null value, e.g. of a future
+     * created by {@link CompletableFuture#runAsync(Runnable)}, becomes {@link Ok#empty()}.
+     *
+     * @param future the future to adapt
+     * @return an AsyncResult completing when the given future completes
+     */
+    public static <T> AsyncResult<T, Throwable> fromFuture(final CompletableFuture<? extends T> future) {
+        return new AsyncResult<>(future.handle((value, failure) -> failure == null ? okOrEmpty(value) : Err.of(unwrapCompletion(failure))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T, Throwable> okOrEmpty(final T value) {
+        return value == null ? (Result<T, Throwable>) (Result<?, ?>) Ok.empty() : Ok.of(value);
+    }
+
+    /**
+     * @param result the Result to complete with
+     * @return an already completed AsyncResult
+     */
+    public static <T, E> AsyncResult<T, E> completed(final Result<T, E> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Combines the given AsyncResults into one that completes when all of them have completed. It holds an {@link Ok}
+     * with all Ok-Values in order, or the first {@link Err} in order. An empty List yields an already completed
+     * AsyncResult holding an Ok of an empty List.
+     *
+     * @param results the AsyncResults to combine
+     * @return an AsyncResult of all Ok-Values or the first Err
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> AsyncResult<List<T>, E> allOf(final List<? extends AsyncResult<? extends T, ? extends E>> results) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[results.size()];
+        for (int i = 0; i < futures.length; ++i) {
+            futures[i] = ((AsyncResult<?, ?>) results.get(i)).future;
+        }
+        return new AsyncResult<>(CompletableFuture.allOf(futures).thenApply(ignored -> {
+            final List<Result<? extends T, ? extends E>> completed = new ArrayList<>(futures.length);
+            for (final CompletableFuture<?> done : futures) {
+                completed.add((Result<? extends T, ? extends E>) done.join());
+            }
+            return Results.sequence(completed);
+        }));
+    }
+
+    /**
+     * @param results the AsyncResults to race, must not be empty
+     * @return an AsyncResult completing with the Result of whichever of the given AsyncResults completes first
+     * @throws IllegalArgumentException if results is empty, as the race would never complete
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> AsyncResult<T, E> anyOf(final List<? extends AsyncResult<? extends T, ? extends E>> results) {
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("Cannot race an empty List of AsyncResults");
+        }
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[results.size()];
+        for (int i = 0; i < futures.length; ++i) {
+            futures[i] = ((AsyncResult<?, ?>) results.get(i)).future;
+        }
+        return new AsyncResult<>(CompletableFuture.anyOf(futures).thenApply(result -> (Result<T, E>) result));
+    }
+
+    /**
+     * @return the Executor used when no Executor is given explicitly
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Asynchronous version of {@link Result#map(Function)}.
+     *
+     * @param okMapper the mapper function
+     * @return an AsyncResult completing with the mapped Result
+     */
+    public <U> AsyncResult<U, E> map(final Function<? super T, ? extends U> okMapper) {
+        return new AsyncResult<>(future.thenApply(result -> result.map(okMapper)));
+    }
+
+    /**
+     * Asynchronous version of {@link Result#flatMap(Function)}, for mapper functions that complete immediately.
+     *
+     * @param okMapper the mapper function
+     * @return an AsyncResult completing with the Result produced by the mapper function
+     */
+    public <U> AsyncResult<U, E> flatMap(final Function<? super T, ? extends Result<U, E>> okMapper) {
+        return new AsyncResult<>(future.thenApply(result -> result.flatMap(okMapper)));
+    }
+
+    /**
+     * Chains another asynchronous computation onto the Ok-Value. If this AsyncResult completes with an {@link Err},
+     * the mapper function is not invoked.
+     *
+     * @param okMapper the mapper function producing the next asynchronous computation
+     * @return an AsyncResult completing with the Result of the chained computation
+     */
+    @SuppressWarnings("unchecked")
+    public <U> AsyncResult<U, E> flatMapAsync(final Function<? super T, ? extends AsyncResult<U, E>> okMapper) {
+        return new AsyncResult<>(future.thenCompose(result -> {
+            if (result instanceof Ok<T, E> ok) {
+                final AsyncResult<U, E> next = okMapper.apply(ok.okValue());
+                return next.future;
+            }
+            return CompletableFuture.completedFuture((Result<U, E>) (Result<?, E>) result);
+        }));
+    }
+
+    /**
+     * Returns an AsyncResult that completes with an {@link Err} produced by the given supplier if this AsyncResult
+     * does not complete within the given timeout. This AsyncResult itself is not affected.
+     *
+     * @param timeout    the maximum time to wait
+     * @param onTimeout  the supplier of the Err-Value in case of a timeout
+     * @return an AsyncResult completing with the Result of this AsyncResult, or with an Err after the timeout
+     */
+    public AsyncResult<T, E> timeout(final Duration timeout, final Supplier<? extends E> onTimeout) {
+        return new AsyncResult<>(future.copy()
+                .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(failure -> unwrapCompletion(failure) instanceof TimeoutException
+                        ? CompletableFuture.completedFuture(Err.of(onTimeout.get()))
+                        : CompletableFuture.failedFuture(failure)));
+    }
+
+    /**
+     * @return true if this AsyncResult has completed
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for this AsyncResult to complete.
+     *
+     * @return the Result of the computation
+     * @throws RuntimeException if one of the mapper functions threw, the original RuntimeException is rethrown
+     * @throws CancellationException if the computation was cancelled
+     */
+    public Result<T, E> join() {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Waits at most the given time for this AsyncResult to complete.
+     *
+     * @param timeout the maximum time to wait
+     * @return the Result of the computation
+     * @throws TimeoutException if the computation did not complete in time
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public Result<T, E> join(final Duration timeout) throws TimeoutException, InterruptedException {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @return a CompletableFuture completing with the Result of this AsyncResult
+     */
+    public CompletableFuture<Result<T, E>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() && !future.isCompletedExceptionally() ? "AsyncResult(" + future.join() + ")" : "AsyncResult(pending)";
+    }
+
+    private static Throwable unwrapCompletion(final Throwable failure) {
+        return (failure instanceof CompletionException || failure instanceof ExecutionException) && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+    }
+
+    private static RuntimeException rethrow(final Exception wrapper) {
+        final Throwable cause = unwrapCompletion(wrapper);
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+
+    private static final class DefaultExecutor {
+
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                return (ExecutorService) MethodHandles.publicLookup()
+                        .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                        .invoke();
+            } catch (final Throwable unsupported) {
+                return Executors.newCachedThreadPool(runnable -> {
+                    final Thread thread = new Thread(runnable, "async-result");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package pvlov.betterstandards.container.result;
+
+/**
+ * The Error-Value of calls rejected by an open {@link CircuitBreaker}. Rejections are meant to be cheap, so a single
+ * shared instance without a stack trace is used for all of them.
+ */
+public final class CallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final CallNotPermittedException INSTANCE = new CallNotPermittedException();
+
+    private CallNotPermittedException() {
+        super("CircuitBreaker is open", null, false, false);
+    }
+}
@@ -0,0 +1,240 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.functional.ExceptionallyFunction;
+import pvlov.betterstandards.functional.ExceptionallySupplier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a failing dependency for a while. The breaker starts {@link State#CLOSED} and counts consecutive
+ * {@link Err}s. Once they reach the failure threshold it opens, and every call returns an Err immediately without
+ * invoking the supplier. After the open duration the breaker turns {@link State#HALF_OPEN} and lets a limited number of
+ * trial calls through. A successful trial closes the breaker again, a failed one reopens it.
+ * <p>
+ * Every permit belongs to the state it was acquired in. Outcomes of calls that were permitted before the breaker last
+ * changed its state, e.g. a slow call acquired while closed that completes while half-open, are ignored, so only the
+ * actual trial calls decide whether a half-open breaker closes.
+ * <p>
+ * The whole state is packed into a single AtomicLong that is only updated by compare-and-set, so a breaker can be
+ * shared by any number of threads without locking or allocating.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Returned by {@link #tryAcquire()} if the call is not permitted.
+     */
+    public static final long NO_PERMIT = -1;
+
+    // layout of the state: | 40 bits epoch | 22 bits count | 2 bits State ordinal |
+    // The epoch is the time in milliseconds since creation when the current state was entered, raised by at least one
+    // on every transition so that it also tells apart permits of different states.
+    private static final int COUNT_SHIFT = 2;
+    private static final int EPOCH_SHIFT = 24;
+    private static final long STATE_MASK = (1L << COUNT_SHIFT) - 1;
+    private static final long COUNT_MASK = (1L << (EPOCH_SHIFT - COUNT_SHIFT)) - 1;
+    private static final int MAX_COUNT = (int) COUNT_MASK;
+    private static final State[] STATES = State.values();
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final int halfOpenPermits;
+    private final LongSupplier nanoClock;
+    private final long createdNanos;
+    // CLOSED: count = consecutive failures, HALF_OPEN: count = trial calls in flight
+    private final AtomicLong state = new AtomicLong(pack(State.CLOSED, 0, 0));
+
+    private CircuitBreaker(final int failureThreshold, final Duration openDuration, final int halfOpenPermits, final LongSupplier nanoClock) {
+        if (failureThreshold < 1 || failureThreshold > MAX_COUNT) {
+            throw new IllegalArgumentException("Failure threshold must be between 1 and " + MAX_COUNT + ": " + failureThreshold);
+        }
+        if (halfOpenPermits < 1 || halfOpenPermits > MAX_COUNT) {
+            throw new IllegalArgumentException("Half-open permits must be between 1 and " + MAX_COUNT + ": " + halfOpenPermits);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("Open duration must not be negative: " + openDuration);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.halfOpenPermits = halfOpenPermits;
+        this.nanoClock = nanoClock;
+        this.createdNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @param failureThreshold the number of consecutive failures that opens the breaker
+     * @param openDuration     how long the breaker stays open before allowing a trial call
+     * @return a closed CircuitBreaker allowing a single trial call when half-open
+     */
+    public static CircuitBreaker of(final int failureThreshold, final Duration openDuration) {
+        return of(failureThreshold, openDuration, 1, System::nanoTime);
+    }
+
+    /**
+     * @param halfOpenPermits the number of concurrent trial calls allowed while half-open
+     * @param nanoClock       the time source in nanoseconds, {@link System#nanoTime()} unless time needs to be controlled
+     * @see #of(int, Duration)
+     */
+    public static CircuitBreaker of(final int failureThreshold, final Duration openDuration, final int halfOpenPermits, final LongSupplier nanoClock) {
+        return new CircuitBreaker(failureThreshold, openDuration, halfOpenPermits, nanoClock);
+    }
+
+    /**
+     * Evaluates the supplying function like {@link Result#ofChecked(ExceptionallySupplier)} if the breaker permits it.
+     *
+     * @param supplier the supplying-function that can throw a checked Exception
+     * @param whenOpen the supplier of the Err-Value for rejected calls
+     * @return the Result of the supplying function, or an Err produced by whenOpen if the call was not permitted
+     */
+    public <T, E extends Throwable> Result<T, E> call(final ExceptionallySupplier<? extends T, E> supplier, final Supplier<? extends E> whenOpen) {
+        final long permit = tryAcquire();
+        if (permit == NO_PERMIT) {
+            return Err.of(whenOpen.get());
+        }
+        final Result<T, E> result = Result.ofChecked(supplier);
+        record(permit, result.isOk());
+        return result;
+    }
+
+    /**
+     * Like {@link #call(ExceptionallySupplier, Supplier)}, but rejected calls return an Err holding the shared
+     * {@link CallNotPermittedException}.
+     */
+    public <T> Result<T, Throwable> call(final ExceptionallySupplier<? extends T, ? extends Throwable> supplier) {
+        return call(supplier::get, () -> CallNotPermittedException.INSTANCE);
+    }
+
+    /**
+     * @return a function that applies the given function through {@link #call(ExceptionallySupplier, Supplier)}
+     */
+    public <A, R, E extends Throwable> Function<A, Result<R, E>> decorate(final ExceptionallyFunction<? super A, ? extends R, E> function, final Supplier<? extends E> whenOpen) {
+        return argument -> call(() -> function.apply(argument), whenOpen);
+    }
+
+    /**
+     * Asks for permission to make a call. Every permitted call must be followed by exactly one
+     * {@link #record(long, boolean)} with the returned permit. Use this pair directly if the call cannot be expressed as
+     * a supplier, e.g. because it completes asynchronously.
+     *
+     * @return the permit of the call, or {@link #NO_PERMIT} if the call is not permitted
+     */
+    public long tryAcquire() {
+        while (true) {
+            final long current = state.get();
+            final long epoch = epochOf(current);
+            switch (stateOf(current)) {
+                case CLOSED:
+                    return epoch;
+                case OPEN:
+                    final long now = millisNow();
+                    if (now - epoch < openMillis) {
+                        return NO_PERMIT;
+                    }
+                    final long trialEpoch = nextEpoch(epoch, now);
+                    if (state.compareAndSet(current, pack(State.HALF_OPEN, 1, trialEpoch))) {
+                        return trialEpoch;
+                    }
+                    break;
+                default:
+                    if (countOf(current) >= halfOpenPermits) {
+                        return NO_PERMIT;
+                    }
+                    if (state.compareAndSet(current, current + (1L << COUNT_SHIFT))) {
+                        return epoch;
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of a call permitted by {@link #tryAcquire()}. Outcomes of calls permitted before the breaker
+     * last changed its state are ignored.
+     *
+     * @param permit  the permit returned by {@link #tryAcquire()}
+     * @param success true if the call succeeded
+     */
+    public void record(final long permit, final boolean success) {
+        while (true) {
+            final long current = state.get();
+            final long epoch = epochOf(current);
+            if (permit != epoch) {
+                return;
+            }
+            final long next;
+            switch (stateOf(current)) {
+                case CLOSED:
+                    if (success) {
+                        next = pack(State.CLOSED, 0, epoch);
+                    } else {
+                        final int failures = countOf(current) + 1;
+                        next = failures >= failureThreshold ? pack(State.OPEN, 0, nextEpoch(epoch, millisNow())) : pack(State.CLOSED, failures, epoch);
+                    }
+                    break;
+                case OPEN:
+                    // the breaker opened since the call was permitted, which also changed the epoch
+                    return;
+                default:
+                    next = pack(success ? State.CLOSED : State.OPEN, 0, nextEpoch(epoch, millisNow()));
+                    break;
+            }
+            if (current == next || state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the current state, an open breaker whose open duration has passed is reported as half-open
+     */
+    public State state() {
+        final long current = state.get();
+        if (stateOf(current) == State.OPEN && millisNow() - epochOf(current) >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return stateOf(current);
+    }
+
+    /**
+     * Closes the breaker and forgets all recorded failures.
+     */
+    public void reset() {
+        state.updateAndGet(current -> pack(State.CLOSED, 0, nextEpoch(epochOf(current), millisNow())));
+    }
+
+    private long millisNow() {
+        return Math.max(0, (nanoClock.getAsLong() - createdNanos) / 1_000_000);
+    }
+
+    private static long nextEpoch(final long epoch, final long now) {
+        return Math.max(now, epoch + 1);
+    }
+
+    private static long pack(final State state, final int count, final long epoch) {
+        return epoch << EPOCH_SHIFT | (long) count << COUNT_SHIFT | state.ordinal();
+    }
+
+    private static State stateOf(final long packed) {
+        return STATES[(int) (packed & STATE_MASK)];
+    }
+
+    private static int countOf(final long packed) {
+        return (int) (packed >>> COUNT_SHIFT & COUNT_MASK);
+    }
+
+    private static long epochOf(final long packed) {
+        return packed >>> EPOCH_SHIFT;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker(" + state() + ")";
+    }
+}
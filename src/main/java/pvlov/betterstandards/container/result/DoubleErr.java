@@ -0,0 +1,128 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+public record DoubleErr<E>(E errorValue) implements DoubleResult<E> {
+    /**
+     * Returns an DoubleErr holding the given Error-Value. For enum constants a shared, canonical instance is returned instead of a new one.
+     */
+    public static <E> DoubleErr<E> of(final E errorValue) {
+        final DoubleErr<E> cached = ErrCache.lookupDouble(errorValue);
+        return cached != null ? cached : new DoubleErr<>(errorValue);
+    }
+
+    @Override
+    public double getAsDouble() throws ResultUnwrapException {
+        throw new ResultUnwrapException("Calling getAsDouble() on DoubleErr!", errorValue);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(final DoublePredicate condition) {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public void ifOk(final DoubleConsumer action) {
+    }
+
+    @Override
+    public void ifErr(final Consumer<? super E> action) {
+        action.accept(errorValue);
+    }
+
+    @Override
+    public double orElse(final double defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public double orElseGet(final DoubleSupplier supplier) {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public double orElseApply(final ToDoubleFunction<? super E> errorMapper) {
+        return errorMapper.applyAsDouble(errorValue);
+    }
+
+    @Override
+    public double expect(final String message) throws ResultUnwrapException {
+        throw new ResultUnwrapException(message, errorValue);
+    }
+
+    @Override
+    public OptionalDouble ok() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(errorValue);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(final DoubleUnaryOperator okMapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(final DoubleToIntFunction okMapper) {
+        return IntErr.of(errorValue);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(final DoubleToLongFunction okMapper) {
+        return LongErr.of(errorValue);
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final DoubleFunction<? extends U> okMapper) {
+        return Err.of(errorValue);
+    }
+
+    @Override
+    public DoubleResult<E> flatMap(final DoubleFunction<? extends DoubleResult<E>> okMapper) {
+        return this;
+    }
+
+    @Override
+    public void match(final DoubleConsumer okConsumer, final Consumer<? super E> errConsumer) {
+        errConsumer.accept(errorValue);
+    }
+
+    @Override
+    public Result<Double, E> toResult() {
+        return Err.of(errorValue);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleErr(" + errorValue + ")";
+    }
+}
@@ -0,0 +1,124 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+public record DoubleOk<Void>(double okValue) implements DoubleResult<Void> {
+    public static <Void> DoubleOk<Void> of(final double okValue) {
+        return new DoubleOk<>(okValue);
+    }
+
+    @Override
+    public double getAsDouble() {
+        return okValue;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(final DoublePredicate condition) {
+        return condition.test(okValue);
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public void ifOk(final DoubleConsumer action) {
+        action.accept(okValue);
+    }
+
+    @Override
+    public void ifErr(final Consumer<? super Void> action) {
+    }
+
+    @Override
+    public double orElse(final double defaultValue) {
+        return okValue;
+    }
+
+    @Override
+    public double orElseGet(final DoubleSupplier supplier) {
+        return okValue;
+    }
+
+    @Override
+    public double orElseApply(final ToDoubleFunction<? super Void> errorMapper) {
+        return okValue;
+    }
+
+    @Override
+    public double expect(final String message) {
+        return okValue;
+    }
+
+    @Override
+    public OptionalDouble ok() {
+        return OptionalDouble.of(okValue);
+    }
+
+    @Override
+    public Optional<Void> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DoubleResult<Void> mapToDouble(final DoubleUnaryOperator okMapper) {
+        return DoubleOk.of(okMapper.applyAsDouble(okValue));
+    }
+
+    @Override
+    public IntResult<Void> mapToInt(final DoubleToIntFunction okMapper) {
+        return IntOk.of(okMapper.applyAsInt(okValue));
+    }
+
+    @Override
+    public LongResult<Void> mapToLong(final DoubleToLongFunction okMapper) {
+        return LongOk.of(okMapper.applyAsLong(okValue));
+    }
+
+    @Override
+    public <U> Result<U, Void> mapToObj(final DoubleFunction<? extends U> okMapper) {
+        return Ok.of(okMapper.apply(okValue));
+    }
+
+    @Override
+    public DoubleResult<Void> flatMap(final DoubleFunction<? extends DoubleResult<Void>> okMapper) {
+        return okMapper.apply(okValue);
+    }
+
+    @Override
+    public void match(final DoubleConsumer okConsumer, final Consumer<? super Void> errConsumer) {
+        okConsumer.accept(okValue);
+    }
+
+    @Override
+    public Result<Double, Void> toResult() {
+        return Ok.of(okValue);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(okValue);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleOk(" + okValue + ")";
+    }
+}
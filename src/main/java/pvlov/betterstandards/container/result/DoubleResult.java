@@ -0,0 +1,208 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+/**
+ * A primitive specialization of {@link Result} for double Ok-Values. It relates to {@link Result} the same way
+ * {@link OptionalDouble} relates to {@link Optional}: operations on the Ok-Value never box it, only the conversion
+ * via {@link #toResult()} does.
+ *
+ * @param <E> The Error-Type
+ */
+public sealed interface DoubleResult<E> permits DoubleOk, DoubleErr {
+    /**
+     * Evaluates the supplying function and wraps the resulting value into an {@link DoubleOk}. If the supplying function
+     * throws any RuntimeException it is wrapped inside an instance of {@link DoubleErr}.
+     *
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @return an {@link DoubleOk} with the supplied value, or an {@link DoubleErr} with the thrown RuntimeException
+     */
+    static DoubleResult<RuntimeException> of(final DoubleSupplier supplier) {
+        try {
+            return DoubleOk.of(supplier.getAsDouble());
+        } catch (final RuntimeException err) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(err);
+            }
+            return DoubleErr.of(err);
+        }
+    }
+
+    /**
+     * Converts a generic Result into its primitive specialization, unboxing the Ok-Value if there is one.
+     *
+     * @param result the Result to convert
+     * @return an {@link DoubleOk} if the given Result is an instance of {@link Ok}, otherwise an {@link DoubleErr} with the same Err-Value
+     * @throws NullPointerException if the given Result is null
+     */
+    static <E> DoubleResult<E> fromResult(final Result<? extends Double, ? extends E> result) {
+        if (result instanceof Ok<? extends Double, ? extends E> ok) {
+            return DoubleOk.of(ok.okValue());
+        }
+        return DoubleErr.of(((Err<? extends Double, ? extends E>) result).errorValue());
+    }
+
+    /**
+     * If this DoubleResult is an instance of {@link DoubleOk}, returns the Ok-Value, otherwise throws a {@link ResultUnwrapException}
+     * carrying the Err-Value.
+     *
+     * @return the Ok-Value if this DoubleResult is an instance of {@link DoubleOk}
+     * @throws ResultUnwrapException if this DoubleResult is an instance of {@link DoubleErr}
+     */
+    double getAsDouble() throws ResultUnwrapException;
+
+    /**
+     * @return true if this DoubleResult is an instance of {@link DoubleOk}, otherwise false
+     */
+    boolean isOk();
+
+    /**
+     * @param condition the predicate to apply to the Ok-Value
+     * @return true if this DoubleResult is an instance of {@link DoubleOk} and the given predicate returns true when applied to the Ok-Value,
+     * otherwise false
+     * @throws NullPointerException if the condition is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    boolean isOkAnd(final DoublePredicate condition);
+
+    /**
+     * @return true if this DoubleResult is an instance of {@link DoubleErr}, otherwise false
+     */
+    boolean isErr();
+
+    /**
+     * If this DoubleResult is an instance of {@link DoubleOk}, performs the given action with the Ok-Value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if this DoubleResult is an instance of {@link DoubleOk}
+     * @throws NullPointerException if the action is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    void ifOk(final DoubleConsumer action);
+
+    /**
+     * If this DoubleResult is an instance of {@link DoubleErr}, performs the given action with the Err-Value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if this DoubleResult is an instance of {@link DoubleErr}
+     * @throws NullPointerException if the action is null and this DoubleResult is an instance of {@link DoubleErr}
+     */
+    void ifErr(final Consumer<? super E> action);
+
+    /**
+     * @param defaultValue the value to return if this DoubleResult is an instance of {@link DoubleErr}
+     * @return the Ok-Value if this DoubleResult is an instance of {@link DoubleOk}, else the provided default value
+     */
+    double orElse(final double defaultValue);
+
+    /**
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the Ok-Value if this DoubleResult is an instance of {@link DoubleOk}, otherwise the value produced by the supplying function
+     * @throws NullPointerException if the supplying function is null and this DoubleResult is an instance of {@link DoubleErr}
+     */
+    double orElseGet(final DoubleSupplier supplier);
+
+    /**
+     * @param errorMapper the mapping function that produces a value to be returned, when applied to the Err-Value
+     * @return the Ok-Value if this DoubleResult is an instance of {@link DoubleOk}, otherwise the value produced by the mapping function
+     * @throws NullPointerException if the mapping function is null and this DoubleResult is an instance of {@link DoubleErr}
+     */
+    double orElseApply(final ToDoubleFunction<? super E> errorMapper);
+
+    /**
+     * Returns the Ok-Value if this DoubleResult is an instance of {@link DoubleOk}, otherwise throws a {@link ResultUnwrapException}
+     * using the given Message-String and carrying the Err-Value.
+     *
+     * @param message the failure message
+     * @return the Ok-Value if this DoubleResult is an instance of {@link DoubleOk}
+     * @throws ResultUnwrapException if this DoubleResult is an instance of {@link DoubleErr}
+     */
+    double expect(final String message) throws ResultUnwrapException;
+
+    /**
+     * @return an OptionalDouble describing the Ok-Value, or an empty OptionalDouble if this DoubleResult is an instance of {@link DoubleErr}
+     */
+    OptionalDouble ok();
+
+    /**
+     * @return an Optional describing the Err-Value, or an empty Optional if this DoubleResult is an instance of {@link DoubleOk}
+     */
+    Optional<E> err();
+
+    /**
+     * Returns a DoubleResult containing the result of applying the given mapping function to the Ok-Value if this
+     * DoubleResult is an instance of {@link DoubleOk}, otherwise returns the {@link DoubleErr} as is.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped DoubleResult
+     * @throws NullPointerException if the mapping function is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    DoubleResult<E> mapToDouble(final DoubleUnaryOperator okMapper);
+
+    /**
+     * Returns a {@link IntResult} containing the result of applying the given mapping function to the Ok-Value if this
+     * DoubleResult is an instance of {@link DoubleOk}, otherwise returns a {@link IntErr} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped IntResult
+     * @throws NullPointerException if the mapping function is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    IntResult<E> mapToInt(final DoubleToIntFunction okMapper);
+
+    /**
+     * Returns a {@link LongResult} containing the result of applying the given mapping function to the Ok-Value if this
+     * DoubleResult is an instance of {@link DoubleOk}, otherwise returns a {@link LongErr} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped LongResult
+     * @throws NullPointerException if the mapping function is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    LongResult<E> mapToLong(final DoubleToLongFunction okMapper);
+
+    /**
+     * Returns a Result containing the result of applying the given mapping function to the Ok-Value if this
+     * DoubleResult is an instance of {@link DoubleOk}, otherwise returns an {@link Err} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped Result
+     * @throws NullPointerException if the mapping function is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    <U> Result<U, E> mapToObj(final DoubleFunction<? extends U> okMapper);
+
+    /**
+     * Returns the DoubleResult produced by applying the given mapping function to the Ok-Value if this
+     * DoubleResult is an instance of {@link DoubleOk}, otherwise returns the {@link DoubleErr} as is.
+     *
+     * @param okMapper the mapping function
+     * @return the DoubleResult produced by the mapping function, or this DoubleResult if it is an instance of {@link DoubleErr}
+     * @throws NullPointerException if the mapping function is null and this DoubleResult is an instance of {@link DoubleOk}
+     */
+    DoubleResult<E> flatMap(final DoubleFunction<? extends DoubleResult<E>> okMapper);
+
+    /**
+     * Runs the corresponding consumer on the Ok-Value or the Err-Value of this DoubleResult.
+     *
+     * @param okConsumer  the consumer to invoke with the Ok-Value, if this DoubleResult is an instance of {@link DoubleOk}
+     * @param errConsumer the consumer to invoke with the Err-Value, if this DoubleResult is an instance of {@link DoubleErr}
+     */
+    void match(final DoubleConsumer okConsumer, final Consumer<? super E> errConsumer);
+
+    /**
+     * Converts this DoubleResult into a generic Result, boxing the Ok-Value.
+     *
+     * @return an {@link Ok} with the boxed Ok-Value, or an {@link Err} with the same Err-Value
+     */
+    Result<Double, E> toResult();
+
+    /**
+     * @return a DoubleStream containing the Ok-Value, or an empty DoubleStream if this DoubleResult is an instance of {@link DoubleErr}
+     */
+    DoubleStream stream();
+}
@@ -7,16 +7,36 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
 public record Err<Void, E>(E errorValue) implements Result<Void, E> {
 
+    /**
+     * Returns an Err holding the given Error-Value. For enum constants and for values registered via {@link #intern(Object)}
+     * a shared, canonical instance is returned instead of a new one.
+     */
     public static <Void, E> Err<Void, E> of(final E errorValue) {
-        return new Err<>(errorValue);
+        final Err<Void, E> cached = ErrCache.lookup(errorValue);
+        return cached != null ? cached : new Err<>(errorValue);
     }
+
+    /**
+     * Registers the given Error-Value, so that every following call of {@link #of(Object)} with an equal value returns
+     * the same shared instance. Only intern constants, interned values are never released.
+     *
+     * @param errorValue the non-null Error-Value to register
+     * @return the canonical Err for the given Error-Value
+     */
+    public static <Void, E> Err<Void, E> intern(final E errorValue) {
+        return ErrCache.intern(Objects.requireNonNull(errorValue, "Cannot intern a null Error-Value"));
+    }
+
     @Override
-    public Void unwrap() throws RuntimeException {
-        throw new RuntimeException("Calling unwrap() on Err!");
+    public Void unwrap() throws ResultUnwrapException {
+        throw new ResultUnwrapException("Calling unwrap() on Err!", errorValue);
     }
 
     @Override
@@ -79,8 +99,8 @@ public record Err<Void, E>(E errorValue) implements Result<Void, E> {
     }
 
     @Override
-    public Void expect(final String message) throws RuntimeException {
-        throw new RuntimeException(message);
+    public Void expect(final String message) throws ResultUnwrapException {
+        throw new ResultUnwrapException(message, errorValue);
     }
 
     @Override
@@ -105,12 +125,27 @@ public record Err<Void, E>(E errorValue) implements Result<Void, E> {
 
     @Override
     public <U> Result<U, E> map(final Function<? super Void, ? extends U> okMapper) {
-        return Err.of(errorValue);
+        return withOkType();
     }
 
     @Override
     public <U> Result<U, E> flatMap(final Function<? super Void, ? extends Result<U, E>> okMapper) {
-        return Err.of(errorValue);
+        return withOkType();
+    }
+
+    @Override
+    public IntResult<E> mapToInt(final ToIntFunction<? super Void> okMapper) {
+        return IntErr.of(errorValue);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(final ToLongFunction<? super Void> okMapper) {
+        return LongErr.of(errorValue);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(final ToDoubleFunction<? super Void> okMapper) {
+        return DoubleErr.of(errorValue);
     }
 
     @Override
@@ -131,12 +166,12 @@ public record Err<Void, E>(E errorValue) implements Result<Void, E> {
 
     @Override
     public Result<java.lang.Void, E> toVoid() {
-        return Err.of(errorValue);
+        return withOkType();
     }
 
     @Override
     public Result<Void, NoSuchElementException> filter(final Predicate<? super Void> condition) {
-        return Err.of(new NoSuchElementException("Calling filter() on Err!"));
+        return ResultExceptions.filterOnErr();
     }
 
     /**
@@ -155,6 +190,14 @@ public record Err<Void, E>(E errorValue) implements Result<Void, E> {
     }
 
 
+    /**
+     * An Err does not hold an Ok-Value, so it can be shared between any Ok-Types without re-wrapping the Error-Value.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Err<U, E> withOkType() {
+        return (Err<U, E>) this;
+    }
+
     @Override
     public boolean equals(final Object other) {
         return other instanceof Err<?, ?> otherErr && Objects.equals(otherErr.errorValue, errorValue);
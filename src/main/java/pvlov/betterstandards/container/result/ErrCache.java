@@ -0,0 +1,84 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Canonical {@link Err} instances for Error-Values that only have a handful of distinct values. Since an Err is
+ * immutable, one shared instance per value can be handed out to every caller on every thread.
+ * <p>
+ * Enum constants are cached without any registration in one array per enum class, indexed by ordinal and created
+ * on first use. This also applies to {@link IntErr}, {@link LongErr} and {@link DoubleErr}. Other values can be
+ * registered via {@link Err#intern(Object)}.
+ */
+final class ErrCache {
+
+    private static final ClassValue<Err<?, ?>[]> ENUM_ERRS = enumCache(Err::new, Err<?, ?>[]::new);
+    private static final ClassValue<IntErr<?>[]> ENUM_INT_ERRS = enumCache(IntErr::new, IntErr<?>[]::new);
+    private static final ClassValue<LongErr<?>[]> ENUM_LONG_ERRS = enumCache(LongErr::new, LongErr<?>[]::new);
+    private static final ClassValue<DoubleErr<?>[]> ENUM_DOUBLE_ERRS = enumCache(DoubleErr::new, DoubleErr<?>[]::new);
+
+    private static final ConcurrentMap<Object, Err<?, ?>> INTERNED = new ConcurrentHashMap<>();
+
+    // Lets Err.of skip the map lookup entirely as long as nothing has been interned
+    private static volatile boolean anyInterned;
+
+    private ErrCache() {
+    }
+
+    private static <R> ClassValue<R[]> enumCache(final Function<Object, R> factory, final IntFunction<R[]> arrayFactory) {
+        return new ClassValue<>() {
+            @Override
+            protected R[] computeValue(final Class<?> type) {
+                final Object[] constants = type.getEnumConstants();
+                final R[] errs = arrayFactory.apply(constants.length);
+                for (int i = 0; i < constants.length; ++i) {
+                    errs[i] = factory.apply(constants[i]);
+                }
+                return errs;
+            }
+        };
+    }
+
+    /**
+     * @return the canonical Err for the given Error-Value, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    static <T, E> Err<T, E> lookup(final E errorValue) {
+        if (errorValue instanceof Enum<?> constant) {
+            return (Err<T, E>) ENUM_ERRS.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        if (anyInterned && errorValue != null) {
+            return (Err<T, E>) INTERNED.get(errorValue);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> IntErr<E> lookupInt(final E errorValue) {
+        return errorValue instanceof Enum<?> constant ? (IntErr<E>) ENUM_INT_ERRS.get(constant.getDeclaringClass())[constant.ordinal()] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> LongErr<E> lookupLong(final E errorValue) {
+        return errorValue instanceof Enum<?> constant ? (LongErr<E>) ENUM_LONG_ERRS.get(constant.getDeclaringClass())[constant.ordinal()] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> DoubleErr<E> lookupDouble(final E errorValue) {
+        return errorValue instanceof Enum<?> constant ? (DoubleErr<E>) ENUM_DOUBLE_ERRS.get(constant.getDeclaringClass())[constant.ordinal()] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, E> Err<T, E> intern(final E errorValue) {
+        final Err<T, E> cached = lookup(errorValue);
+        if (cached != null) {
+            return cached;
+        }
+        final Err<?, ?> interned = INTERNED.computeIfAbsent(errorValue, Err::new);
+        anyInterned = true;
+        return (Err<T, E>) interned;
+    }
+}
@@ -0,0 +1,151 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A non-empty, immutable sequence of errors as accumulated by {@link Validation}. Concatenating two chains is O(1)
+ * and shares both of them, so accumulating the errors of many checks never copies the errors collected so far.
+ *
+ * @param <E> The Error-Type
+ */
+public final class ErrorChain<E> implements Iterable<E> {
+
+    private final E error;
+    private final ErrorChain<E> left;
+    private final ErrorChain<E> right;
+    private final int size;
+
+    private ErrorChain(final E error, final ErrorChain<E> left, final ErrorChain<E> right, final int size) {
+        this.error = error;
+        this.left = left;
+        this.right = right;
+        this.size = size;
+    }
+
+    public static <E> ErrorChain<E> of(final E error) {
+        return new ErrorChain<>(error, null, null, 1);
+    }
+
+    /**
+     * @param errors the errors in order
+     * @return a balanced ErrorChain of the given errors
+     * @throws IllegalArgumentException if the given List is empty
+     */
+    public static <E> ErrorChain<E> ofAll(final List<? extends E> errors) {
+        if (errors.isEmpty()) {
+            throw new IllegalArgumentException("An ErrorChain cannot be empty");
+        }
+        return build(errors, 0, errors.size());
+    }
+
+    private static <E> ErrorChain<E> build(final List<? extends E> errors, final int from, final int to) {
+        if (to - from == 1) {
+            return of(errors.get(from));
+        }
+        final int mid = (from + to) >>> 1;
+        return ErrorChain.<E>build(errors, from, mid).concat(build(errors, mid, to));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> ErrorChain<E> widen(final ErrorChain<? extends E> chain) {
+        return (ErrorChain<E>) chain;
+    }
+
+    /**
+     * @param other the errors to append
+     * @return a new ErrorChain containing the errors of this chain followed by the errors of the other chain
+     */
+    public ErrorChain<E> concat(final ErrorChain<? extends E> other) {
+        return new ErrorChain<>(null, this, widen(other), size + other.size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public E first() {
+        ErrorChain<E> current = this;
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current.error;
+    }
+
+    public <F> ErrorChain<F> map(final Function<? super E, ? extends F> mapper) {
+        final List<F> mapped = new ArrayList<>(size);
+        for (final E e : this) {
+            mapped.add(mapper.apply(e));
+        }
+        return ofAll(mapped);
+    }
+
+    /**
+     * @return an unmodifiable List of the errors in order
+     */
+    public List<E> toList() {
+        final List<E> errors = new ArrayList<>(size);
+        forEach(errors::add);
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            final Deque<ErrorChain<E>> pending = new ArrayDeque<>(List.of(ErrorChain.this));
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                ErrorChain<E> current = pending.pop();
+                while (current.left != null) {
+                    pending.push(current.right);
+                    current = current.left;
+                }
+                return current.error;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (!(other instanceof ErrorChain<?> otherChain) || otherChain.size != size) {
+            return false;
+        }
+        final Iterator<?> otherErrors = otherChain.iterator();
+        for (final E e : this) {
+            if (!Objects.equals(e, otherErrors.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (final E e : this) {
+            hash = 31 * hash + Objects.hashCode(e);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -0,0 +1,128 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+public record IntErr<E>(E errorValue) implements IntResult<E> {
+    /**
+     * Returns an IntErr holding the given Error-Value. For enum constants a shared, canonical instance is returned instead of a new one.
+     */
+    public static <E> IntErr<E> of(final E errorValue) {
+        final IntErr<E> cached = ErrCache.lookupInt(errorValue);
+        return cached != null ? cached : new IntErr<>(errorValue);
+    }
+
+    @Override
+    public int getAsInt() throws ResultUnwrapException {
+        throw new ResultUnwrapException("Calling getAsInt() on IntErr!", errorValue);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(final IntPredicate condition) {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public void ifOk(final IntConsumer action) {
+    }
+
+    @Override
+    public void ifErr(final Consumer<? super E> action) {
+        action.accept(errorValue);
+    }
+
+    @Override
+    public int orElse(final int defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public int orElseGet(final IntSupplier supplier) {
+        return supplier.getAsInt();
+    }
+
+    @Override
+    public int orElseApply(final ToIntFunction<? super E> errorMapper) {
+        return errorMapper.applyAsInt(errorValue);
+    }
+
+    @Override
+    public int expect(final String message) throws ResultUnwrapException {
+        throw new ResultUnwrapException(message, errorValue);
+    }
+
+    @Override
+    public OptionalInt ok() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(errorValue);
+    }
+
+    @Override
+    public IntResult<E> mapToInt(final IntUnaryOperator okMapper) {
+        return this;
+    }
+
+    @Override
+    public LongResult<E> mapToLong(final IntToLongFunction okMapper) {
+        return LongErr.of(errorValue);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(final IntToDoubleFunction okMapper) {
+        return DoubleErr.of(errorValue);
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final IntFunction<? extends U> okMapper) {
+        return Err.of(errorValue);
+    }
+
+    @Override
+    public IntResult<E> flatMap(final IntFunction<? extends IntResult<E>> okMapper) {
+        return this;
+    }
+
+    @Override
+    public void match(final IntConsumer okConsumer, final Consumer<? super E> errConsumer) {
+        errConsumer.accept(errorValue);
+    }
+
+    @Override
+    public Result<Integer, E> toResult() {
+        return Err.of(errorValue);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "IntErr(" + errorValue + ")";
+    }
+}
@@ -0,0 +1,124 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+public record IntOk<Void>(int okValue) implements IntResult<Void> {
+    public static <Void> IntOk<Void> of(final int okValue) {
+        return new IntOk<>(okValue);
+    }
+
+    @Override
+    public int getAsInt() {
+        return okValue;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(final IntPredicate condition) {
+        return condition.test(okValue);
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public void ifOk(final IntConsumer action) {
+        action.accept(okValue);
+    }
+
+    @Override
+    public void ifErr(final Consumer<? super Void> action) {
+    }
+
+    @Override
+    public int orElse(final int defaultValue) {
+        return okValue;
+    }
+
+    @Override
+    public int orElseGet(final IntSupplier supplier) {
+        return okValue;
+    }
+
+    @Override
+    public int orElseApply(final ToIntFunction<? super Void> errorMapper) {
+        return okValue;
+    }
+
+    @Override
+    public int expect(final String message) {
+        return okValue;
+    }
+
+    @Override
+    public OptionalInt ok() {
+        return OptionalInt.of(okValue);
+    }
+
+    @Override
+    public Optional<Void> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public IntResult<Void> mapToInt(final IntUnaryOperator okMapper) {
+        return IntOk.of(okMapper.applyAsInt(okValue));
+    }
+
+    @Override
+    public LongResult<Void> mapToLong(final IntToLongFunction okMapper) {
+        return LongOk.of(okMapper.applyAsLong(okValue));
+    }
+
+    @Override
+    public DoubleResult<Void> mapToDouble(final IntToDoubleFunction okMapper) {
+        return DoubleOk.of(okMapper.applyAsDouble(okValue));
+    }
+
+    @Override
+    public <U> Result<U, Void> mapToObj(final IntFunction<? extends U> okMapper) {
+        return Ok.of(okMapper.apply(okValue));
+    }
+
+    @Override
+    public IntResult<Void> flatMap(final IntFunction<? extends IntResult<Void>> okMapper) {
+        return okMapper.apply(okValue);
+    }
+
+    @Override
+    public void match(final IntConsumer okConsumer, final Consumer<? super Void> errConsumer) {
+        okConsumer.accept(okValue);
+    }
+
+    @Override
+    public Result<Integer, Void> toResult() {
+        return Ok.of(okValue);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.of(okValue);
+    }
+
+    @Override
+    public String toString() {
+        return "IntOk(" + okValue + ")";
+    }
+}
@@ -0,0 +1,208 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A primitive specialization of {@link Result} for int Ok-Values. It relates to {@link Result} the same way
+ * {@link OptionalInt} relates to {@link Optional}: operations on the Ok-Value never box it, only the conversion
+ * via {@link #toResult()} does.
+ *
+ * @param <E> The Error-Type
+ */
+public sealed interface IntResult<E> permits IntOk, IntErr {
+    /**
+     * Evaluates the supplying function and wraps the resulting value into an {@link IntOk}. If the supplying function
+     * throws any RuntimeException it is wrapped inside an instance of {@link IntErr}.
+     *
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @return an {@link IntOk} with the supplied value, or an {@link IntErr} with the thrown RuntimeException
+     */
+    static IntResult<RuntimeException> of(final IntSupplier supplier) {
+        try {
+            return IntOk.of(supplier.getAsInt());
+        } catch (final RuntimeException err) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(err);
+            }
+            return IntErr.of(err);
+        }
+    }
+
+    /**
+     * Converts a generic Result into its primitive specialization, unboxing the Ok-Value if there is one.
+     *
+     * @param result the Result to convert
+     * @return an {@link IntOk} if the given Result is an instance of {@link Ok}, otherwise an {@link IntErr} with the same Err-Value
+     * @throws NullPointerException if the given Result is null
+     */
+    static <E> IntResult<E> fromResult(final Result<? extends Integer, ? extends E> result) {
+        if (result instanceof Ok<? extends Integer, ? extends E> ok) {
+            return IntOk.of(ok.okValue());
+        }
+        return IntErr.of(((Err<? extends Integer, ? extends E>) result).errorValue());
+    }
+
+    /**
+     * If this IntResult is an instance of {@link IntOk}, returns the Ok-Value, otherwise throws a {@link ResultUnwrapException}
+     * carrying the Err-Value.
+     *
+     * @return the Ok-Value if this IntResult is an instance of {@link IntOk}
+     * @throws ResultUnwrapException if this IntResult is an instance of {@link IntErr}
+     */
+    int getAsInt() throws ResultUnwrapException;
+
+    /**
+     * @return true if this IntResult is an instance of {@link IntOk}, otherwise false
+     */
+    boolean isOk();
+
+    /**
+     * @param condition the predicate to apply to the Ok-Value
+     * @return true if this IntResult is an instance of {@link IntOk} and the given predicate returns true when applied to the Ok-Value,
+     * otherwise false
+     * @throws NullPointerException if the condition is null and this IntResult is an instance of {@link IntOk}
+     */
+    boolean isOkAnd(final IntPredicate condition);
+
+    /**
+     * @return true if this IntResult is an instance of {@link IntErr}, otherwise false
+     */
+    boolean isErr();
+
+    /**
+     * If this IntResult is an instance of {@link IntOk}, performs the given action with the Ok-Value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if this IntResult is an instance of {@link IntOk}
+     * @throws NullPointerException if the action is null and this IntResult is an instance of {@link IntOk}
+     */
+    void ifOk(final IntConsumer action);
+
+    /**
+     * If this IntResult is an instance of {@link IntErr}, performs the given action with the Err-Value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if this IntResult is an instance of {@link IntErr}
+     * @throws NullPointerException if the action is null and this IntResult is an instance of {@link IntErr}
+     */
+    void ifErr(final Consumer<? super E> action);
+
+    /**
+     * @param defaultValue the value to return if this IntResult is an instance of {@link IntErr}
+     * @return the Ok-Value if this IntResult is an instance of {@link IntOk}, else the provided default value
+     */
+    int orElse(final int defaultValue);
+
+    /**
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the Ok-Value if this IntResult is an instance of {@link IntOk}, otherwise the value produced by the supplying function
+     * @throws NullPointerException if the supplying function is null and this IntResult is an instance of {@link IntErr}
+     */
+    int orElseGet(final IntSupplier supplier);
+
+    /**
+     * @param errorMapper the mapping function that produces a value to be returned, when applied to the Err-Value
+     * @return the Ok-Value if this IntResult is an instance of {@link IntOk}, otherwise the value produced by the mapping function
+     * @throws NullPointerException if the mapping function is null and this IntResult is an instance of {@link IntErr}
+     */
+    int orElseApply(final ToIntFunction<? super E> errorMapper);
+
+    /**
+     * Returns the Ok-Value if this IntResult is an instance of {@link IntOk}, otherwise throws a {@link ResultUnwrapException}
+     * using the given Message-String and carrying the Err-Value.
+     *
+     * @param message the failure message
+     * @return the Ok-Value if this IntResult is an instance of {@link IntOk}
+     * @throws ResultUnwrapException if this IntResult is an instance of {@link IntErr}
+     */
+    int expect(final String message) throws ResultUnwrapException;
+
+    /**
+     * @return an OptionalInt describing the Ok-Value, or an empty OptionalInt if this IntResult is an instance of {@link IntErr}
+     */
+    OptionalInt ok();
+
+    /**
+     * @return an Optional describing the Err-Value, or an empty Optional if this IntResult is an instance of {@link IntOk}
+     */
+    Optional<E> err();
+
+    /**
+     * Returns an IntResult containing the result of applying the given mapping function to the Ok-Value if this
+     * IntResult is an instance of {@link IntOk}, otherwise returns the {@link IntErr} as is.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped IntResult
+     * @throws NullPointerException if the mapping function is null and this IntResult is an instance of {@link IntOk}
+     */
+    IntResult<E> mapToInt(final IntUnaryOperator okMapper);
+
+    /**
+     * Returns a {@link LongResult} containing the result of applying the given mapping function to the Ok-Value if this
+     * IntResult is an instance of {@link IntOk}, otherwise returns a {@link LongErr} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped LongResult
+     * @throws NullPointerException if the mapping function is null and this IntResult is an instance of {@link IntOk}
+     */
+    LongResult<E> mapToLong(final IntToLongFunction okMapper);
+
+    /**
+     * Returns a {@link DoubleResult} containing the result of applying the given mapping function to the Ok-Value if this
+     * IntResult is an instance of {@link IntOk}, otherwise returns a {@link DoubleErr} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped DoubleResult
+     * @throws NullPointerException if the mapping function is null and this IntResult is an instance of {@link IntOk}
+     */
+    DoubleResult<E> mapToDouble(final IntToDoubleFunction okMapper);
+
+    /**
+     * Returns a Result containing the result of applying the given mapping function to the Ok-Value if this
+     * IntResult is an instance of {@link IntOk}, otherwise returns an {@link Err} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped Result
+     * @throws NullPointerException if the mapping function is null and this IntResult is an instance of {@link IntOk}
+     */
+    <U> Result<U, E> mapToObj(final IntFunction<? extends U> okMapper);
+
+    /**
+     * Returns the IntResult produced by applying the given mapping function to the Ok-Value if this
+     * IntResult is an instance of {@link IntOk}, otherwise returns the {@link IntErr} as is.
+     *
+     * @param okMapper the mapping function
+     * @return the IntResult produced by the mapping function, or this IntResult if it is an instance of {@link IntErr}
+     * @throws NullPointerException if the mapping function is null and this IntResult is an instance of {@link IntOk}
+     */
+    IntResult<E> flatMap(final IntFunction<? extends IntResult<E>> okMapper);
+
+    /**
+     * Runs the corresponding consumer on the Ok-Value or the Err-Value of this IntResult.
+     *
+     * @param okConsumer  the consumer to invoke with the Ok-Value, if this IntResult is an instance of {@link IntOk}
+     * @param errConsumer the consumer to invoke with the Err-Value, if this IntResult is an instance of {@link IntErr}
+     */
+    void match(final IntConsumer okConsumer, final Consumer<? super E> errConsumer);
+
+    /**
+     * Converts this IntResult into a generic Result, boxing the Ok-Value.
+     *
+     * @return an {@link Ok} with the boxed Ok-Value, or an {@link Err} with the same Err-Value
+     */
+    Result<Integer, E> toResult();
+
+    /**
+     * @return an IntStream containing the Ok-Value, or an empty IntStream if this IntResult is an instance of {@link IntErr}
+     */
+    IntStream stream();
+}
@@ -0,0 +1,74 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public record Invalid<Void, E>(ErrorChain<E> errorChain) implements Validation<Void, E> {
+
+    public Invalid {
+        Objects.requireNonNull(errorChain);
+    }
+
+    public static <Void, E> Invalid<Void, E> of(final E error) {
+        return new Invalid<>(ErrorChain.of(error));
+    }
+
+    @Override
+    public Void unwrap() throws ResultUnwrapException {
+        throw new ResultUnwrapException("Calling unwrap() on Invalid!", errorChain);
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    @Override
+    public Void orElse(final Void defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public List<E> errors() {
+        return errorChain.toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Validation<U, E> map(final Function<? super Void, ? extends U> mapper) {
+        return (Validation<U, E>) this;
+    }
+
+    @Override
+    public <F> Validation<Void, F> mapErrors(final Function<? super E, ? extends F> errorMapper) {
+        return new Invalid<>(errorChain.map(errorMapper));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Validation<U, E> flatMap(final Function<? super Void, ? extends Validation<U, E>> mapper) {
+        return (Validation<U, E>) this;
+    }
+
+    @Override
+    public void match(final Consumer<? super Void> validConsumer, final Consumer<? super ErrorChain<E>> invalidConsumer) {
+        invalidConsumer.accept(errorChain);
+    }
+
+    @Override
+    public Result<Void, ErrorChain<E>> toResult() {
+        return Err.of(errorChain);
+    }
+
+    @Override
+    public String toString() {
+        return "Invalid(" + errorChain + ")";
+    }
+}
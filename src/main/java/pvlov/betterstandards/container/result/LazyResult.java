@@ -0,0 +1,182 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.functional.ExceptionallySupplier;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that is only computed when it is first needed. Transformations like {@link #map(Function)} only
+ * compose functions and return another LazyResult, nothing is evaluated until the Result is forced by {@link #get()}
+ * or one of the methods that inspect it. The computation then runs at most once, even if several threads force
+ * the LazyResult at the same time, and all of them observe the same Result. Waiting callers block on a
+ * {@link ReentrantLock} rather than a monitor, so a computation doing I/O on a virtual thread does not pin its carrier.
+ * <p>
+ * If the computation throws, nothing is memoized and the exception propagates to the caller that forced it, so the
+ * next caller evaluates again. A LazyResult is a {@link Supplier} of its Result, so it can be passed to
+ * {@link Result#or(Supplier)} as a fallback that is only computed if it is needed.
+ *
+ * @param <T> The Ok-Type
+ * @param <E> The Error-Type
+ */
+public final class LazyResult<T, E> implements Supplier<Result<T, E>> {
+
+    // null if the Result was known from the start
+    private final ReentrantLock lock;
+    private volatile Result<T, E> result;
+    // guarded by lock, released once the Result is known
+    private Supplier<? extends Result<T, E>> computation;
+
+    private LazyResult(final Supplier<? extends Result<T, E>> computation) {
+        this.lock = new ReentrantLock();
+        this.computation = computation;
+    }
+
+    private LazyResult(final Result<T, E> result) {
+        this.lock = null;
+        this.result = result;
+    }
+
+    /**
+     * Defers {@link Result#of(Supplier)}.
+     *
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @return a LazyResult evaluating the supplying function when forced
+     */
+    public static <T> LazyResult<T, RuntimeException> of(final Supplier<? extends T> supplier) {
+        return new LazyResult<>(() -> Result.of(supplier));
+    }
+
+    /**
+     * Defers {@link Result#ofChecked(ExceptionallySupplier)}.
+     *
+     * @param supplier the supplying-function that can throw a checked Exception
+     * @return a LazyResult evaluating the supplying function when forced
+     */
+    public static <T, E extends Throwable> LazyResult<T, E> ofChecked(final ExceptionallySupplier<? extends T, E> supplier) {
+        return new LazyResult<>(() -> Result.ofChecked(supplier));
+    }
+
+    /**
+     * @param computation computes the Result when forced, must not return null
+     * @return a LazyResult memoizing the Result of the given computation
+     */
+    public static <T, E> LazyResult<T, E> defer(final Supplier<? extends Result<T, E>> computation) {
+        return new LazyResult<>(computation);
+    }
+
+    /**
+     * @param result the Result
+     * @return an already evaluated LazyResult
+     */
+    public static <T, E> LazyResult<T, E> completed(final Result<T, E> result) {
+        return new LazyResult<>(Objects.requireNonNull(result));
+    }
+
+    /**
+     * Forces the evaluation if it has not happened yet.
+     *
+     * @return the memoized Result
+     */
+    @Override
+    public Result<T, E> get() {
+        Result<T, E> current = result;
+        if (current == null) {
+            lock.lock();
+            try {
+                current = result;
+                if (current == null) {
+                    current = Objects.requireNonNull(computation.get(), "The computation of a LazyResult returned null");
+                    result = current;
+                    computation = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return true if the Result has been computed, this never forces the evaluation
+     */
+    public boolean isEvaluated() {
+        return result != null;
+    }
+
+    /**
+     * Forces the evaluation, see {@link Result#isOk()}.
+     */
+    public boolean isOk() {
+        return get().isOk();
+    }
+
+    /**
+     * Forces the evaluation, see {@link Result#isErr()}.
+     */
+    public boolean isErr() {
+        return get().isErr();
+    }
+
+    /**
+     * Forces the evaluation, see {@link Result#unwrap()}.
+     */
+    public T unwrap() throws ResultUnwrapException {
+        return get().unwrap();
+    }
+
+    /**
+     * Forces the evaluation, see {@link Result#orElse(Object)}.
+     */
+    public T orElse(final T defaultValue) {
+        return get().orElse(defaultValue);
+    }
+
+    /**
+     * Forces the evaluation, see {@link Result#match(Consumer, Consumer)}.
+     */
+    public void match(final Consumer<? super T> okConsumer, final Consumer<? super E> errConsumer) {
+        get().match(okConsumer, errConsumer);
+    }
+
+    /**
+     * Lazy version of {@link Result#map(Function)}, the mapper function is invoked when the returned LazyResult is forced.
+     */
+    public <U> LazyResult<U, E> map(final Function<? super T, ? extends U> okMapper) {
+        return new LazyResult<>(() -> get().map(okMapper));
+    }
+
+    /**
+     * Lazy version of {@link Result#flatMap(Function)}, the mapper function is invoked when the returned LazyResult is forced.
+     */
+    public <U> LazyResult<U, E> flatMap(final Function<? super T, ? extends Result<U, E>> okMapper) {
+        return new LazyResult<>(() -> get().flatMap(okMapper));
+    }
+
+    /**
+     * Lazy version of {@link Result#filter(Predicate)}, the condition is tested when the returned LazyResult is forced.
+     */
+    public LazyResult<T, NoSuchElementException> filter(final Predicate<? super T> condition) {
+        return new LazyResult<>(() -> get().filter(condition));
+    }
+
+    /**
+     * Lazy version of {@link Result#or(Supplier)}. Neither this LazyResult nor the alternative is evaluated before the
+     * returned LazyResult is forced, and the alternative only if this one turns out to be an {@link Err}.
+     */
+    @SuppressWarnings("unchecked")
+    public LazyResult<T, E> or(final Supplier<? extends Result<? extends T, ? extends E>> orSupplier) {
+        return new LazyResult<>(() -> (Result<T, E>) get().or(orSupplier));
+    }
+
+    @Override
+    public String toString() {
+        final Result<T, E> current = result;
+        return current == null ? "LazyResult(unevaluated)" : "LazyResult(" + current + ")";
+    }
+}
@@ -0,0 +1,128 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+public record LongErr<E>(E errorValue) implements LongResult<E> {
+    /**
+     * Returns an LongErr holding the given Error-Value. For enum constants a shared, canonical instance is returned instead of a new one.
+     */
+    public static <E> LongErr<E> of(final E errorValue) {
+        final LongErr<E> cached = ErrCache.lookupLong(errorValue);
+        return cached != null ? cached : new LongErr<>(errorValue);
+    }
+
+    @Override
+    public long getAsLong() throws ResultUnwrapException {
+        throw new ResultUnwrapException("Calling getAsLong() on LongErr!", errorValue);
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(final LongPredicate condition) {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public void ifOk(final LongConsumer action) {
+    }
+
+    @Override
+    public void ifErr(final Consumer<? super E> action) {
+        action.accept(errorValue);
+    }
+
+    @Override
+    public long orElse(final long defaultValue) {
+        return defaultValue;
+    }
+
+    @Override
+    public long orElseGet(final LongSupplier supplier) {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public long orElseApply(final ToLongFunction<? super E> errorMapper) {
+        return errorMapper.applyAsLong(errorValue);
+    }
+
+    @Override
+    public long expect(final String message) throws ResultUnwrapException {
+        throw new ResultUnwrapException(message, errorValue);
+    }
+
+    @Override
+    public OptionalLong ok() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<E> err() {
+        return Optional.of(errorValue);
+    }
+
+    @Override
+    public LongResult<E> mapToLong(final LongUnaryOperator okMapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult<E> mapToInt(final LongToIntFunction okMapper) {
+        return IntErr.of(errorValue);
+    }
+
+    @Override
+    public DoubleResult<E> mapToDouble(final LongToDoubleFunction okMapper) {
+        return DoubleErr.of(errorValue);
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final LongFunction<? extends U> okMapper) {
+        return Err.of(errorValue);
+    }
+
+    @Override
+    public LongResult<E> flatMap(final LongFunction<? extends LongResult<E>> okMapper) {
+        return this;
+    }
+
+    @Override
+    public void match(final LongConsumer okConsumer, final Consumer<? super E> errConsumer) {
+        errConsumer.accept(errorValue);
+    }
+
+    @Override
+    public Result<Long, E> toResult() {
+        return Err.of(errorValue);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "LongErr(" + errorValue + ")";
+    }
+}
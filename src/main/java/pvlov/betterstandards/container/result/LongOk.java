@@ -0,0 +1,124 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+public record LongOk<Void>(long okValue) implements LongResult<Void> {
+    public static <Void> LongOk<Void> of(final long okValue) {
+        return new LongOk<>(okValue);
+    }
+
+    @Override
+    public long getAsLong() {
+        return okValue;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(final LongPredicate condition) {
+        return condition.test(okValue);
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public void ifOk(final LongConsumer action) {
+        action.accept(okValue);
+    }
+
+    @Override
+    public void ifErr(final Consumer<? super Void> action) {
+    }
+
+    @Override
+    public long orElse(final long defaultValue) {
+        return okValue;
+    }
+
+    @Override
+    public long orElseGet(final LongSupplier supplier) {
+        return okValue;
+    }
+
+    @Override
+    public long orElseApply(final ToLongFunction<? super Void> errorMapper) {
+        return okValue;
+    }
+
+    @Override
+    public long expect(final String message) {
+        return okValue;
+    }
+
+    @Override
+    public OptionalLong ok() {
+        return OptionalLong.of(okValue);
+    }
+
+    @Override
+    public Optional<Void> err() {
+        return Optional.empty();
+    }
+
+    @Override
+    public LongResult<Void> mapToLong(final LongUnaryOperator okMapper) {
+        return LongOk.of(okMapper.applyAsLong(okValue));
+    }
+
+    @Override
+    public IntResult<Void> mapToInt(final LongToIntFunction okMapper) {
+        return IntOk.of(okMapper.applyAsInt(okValue));
+    }
+
+    @Override
+    public DoubleResult<Void> mapToDouble(final LongToDoubleFunction okMapper) {
+        return DoubleOk.of(okMapper.applyAsDouble(okValue));
+    }
+
+    @Override
+    public <U> Result<U, Void> mapToObj(final LongFunction<? extends U> okMapper) {
+        return Ok.of(okMapper.apply(okValue));
+    }
+
+    @Override
+    public LongResult<Void> flatMap(final LongFunction<? extends LongResult<Void>> okMapper) {
+        return okMapper.apply(okValue);
+    }
+
+    @Override
+    public void match(final LongConsumer okConsumer, final Consumer<? super Void> errConsumer) {
+        okConsumer.accept(okValue);
+    }
+
+    @Override
+    public Result<Long, Void> toResult() {
+        return Ok.of(okValue);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.of(okValue);
+    }
+
+    @Override
+    public String toString() {
+        return "LongOk(" + okValue + ")";
+    }
+}
@@ -0,0 +1,208 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * A primitive specialization of {@link Result} for long Ok-Values. It relates to {@link Result} the same way
+ * {@link OptionalLong} relates to {@link Optional}: operations on the Ok-Value never box it, only the conversion
+ * via {@link #toResult()} does.
+ *
+ * @param <E> The Error-Type
+ */
+public sealed interface LongResult<E> permits LongOk, LongErr {
+    /**
+     * Evaluates the supplying function and wraps the resulting value into an {@link LongOk}. If the supplying function
+     * throws any RuntimeException it is wrapped inside an instance of {@link LongErr}.
+     *
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @return an {@link LongOk} with the supplied value, or an {@link LongErr} with the thrown RuntimeException
+     */
+    static LongResult<RuntimeException> of(final LongSupplier supplier) {
+        try {
+            return LongOk.of(supplier.getAsLong());
+        } catch (final RuntimeException err) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(err);
+            }
+            return LongErr.of(err);
+        }
+    }
+
+    /**
+     * Converts a generic Result into its primitive specialization, unboxing the Ok-Value if there is one.
+     *
+     * @param result the Result to convert
+     * @return an {@link LongOk} if the given Result is an instance of {@link Ok}, otherwise an {@link LongErr} with the same Err-Value
+     * @throws NullPointerException if the given Result is null
+     */
+    static <E> LongResult<E> fromResult(final Result<? extends Long, ? extends E> result) {
+        if (result instanceof Ok<? extends Long, ? extends E> ok) {
+            return LongOk.of(ok.okValue());
+        }
+        return LongErr.of(((Err<? extends Long, ? extends E>) result).errorValue());
+    }
+
+    /**
+     * If this LongResult is an instance of {@link LongOk}, returns the Ok-Value, otherwise throws a {@link ResultUnwrapException}
+     * carrying the Err-Value.
+     *
+     * @return the Ok-Value if this LongResult is an instance of {@link LongOk}
+     * @throws ResultUnwrapException if this LongResult is an instance of {@link LongErr}
+     */
+    long getAsLong() throws ResultUnwrapException;
+
+    /**
+     * @return true if this LongResult is an instance of {@link LongOk}, otherwise false
+     */
+    boolean isOk();
+
+    /**
+     * @param condition the predicate to apply to the Ok-Value
+     * @return true if this LongResult is an instance of {@link LongOk} and the given predicate returns true when applied to the Ok-Value,
+     * otherwise false
+     * @throws NullPointerException if the condition is null and this LongResult is an instance of {@link LongOk}
+     */
+    boolean isOkAnd(final LongPredicate condition);
+
+    /**
+     * @return true if this LongResult is an instance of {@link LongErr}, otherwise false
+     */
+    boolean isErr();
+
+    /**
+     * If this LongResult is an instance of {@link LongOk}, performs the given action with the Ok-Value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if this LongResult is an instance of {@link LongOk}
+     * @throws NullPointerException if the action is null and this LongResult is an instance of {@link LongOk}
+     */
+    void ifOk(final LongConsumer action);
+
+    /**
+     * If this LongResult is an instance of {@link LongErr}, performs the given action with the Err-Value, otherwise does nothing.
+     *
+     * @param action the action to be performed, if this LongResult is an instance of {@link LongErr}
+     * @throws NullPointerException if the action is null and this LongResult is an instance of {@link LongErr}
+     */
+    void ifErr(final Consumer<? super E> action);
+
+    /**
+     * @param defaultValue the value to return if this LongResult is an instance of {@link LongErr}
+     * @return the Ok-Value if this LongResult is an instance of {@link LongOk}, else the provided default value
+     */
+    long orElse(final long defaultValue);
+
+    /**
+     * @param supplier the supplying function that produces a value to be returned
+     * @return the Ok-Value if this LongResult is an instance of {@link LongOk}, otherwise the value produced by the supplying function
+     * @throws NullPointerException if the supplying function is null and this LongResult is an instance of {@link LongErr}
+     */
+    long orElseGet(final LongSupplier supplier);
+
+    /**
+     * @param errorMapper the mapping function that produces a value to be returned, when applied to the Err-Value
+     * @return the Ok-Value if this LongResult is an instance of {@link LongOk}, otherwise the value produced by the mapping function
+     * @throws NullPointerException if the mapping function is null and this LongResult is an instance of {@link LongErr}
+     */
+    long orElseApply(final ToLongFunction<? super E> errorMapper);
+
+    /**
+     * Returns the Ok-Value if this LongResult is an instance of {@link LongOk}, otherwise throws a {@link ResultUnwrapException}
+     * using the given Message-String and carrying the Err-Value.
+     *
+     * @param message the failure message
+     * @return the Ok-Value if this LongResult is an instance of {@link LongOk}
+     * @throws ResultUnwrapException if this LongResult is an instance of {@link LongErr}
+     */
+    long expect(final String message) throws ResultUnwrapException;
+
+    /**
+     * @return an OptionalLong describing the Ok-Value, or an empty OptionalLong if this LongResult is an instance of {@link LongErr}
+     */
+    OptionalLong ok();
+
+    /**
+     * @return an Optional describing the Err-Value, or an empty Optional if this LongResult is an instance of {@link LongOk}
+     */
+    Optional<E> err();
+
+    /**
+     * Returns a LongResult containing the result of applying the given mapping function to the Ok-Value if this
+     * LongResult is an instance of {@link LongOk}, otherwise returns the {@link LongErr} as is.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped LongResult
+     * @throws NullPointerException if the mapping function is null and this LongResult is an instance of {@link LongOk}
+     */
+    LongResult<E> mapToLong(final LongUnaryOperator okMapper);
+
+    /**
+     * Returns a {@link IntResult} containing the result of applying the given mapping function to the Ok-Value if this
+     * LongResult is an instance of {@link LongOk}, otherwise returns a {@link IntErr} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped IntResult
+     * @throws NullPointerException if the mapping function is null and this LongResult is an instance of {@link LongOk}
+     */
+    IntResult<E> mapToInt(final LongToIntFunction okMapper);
+
+    /**
+     * Returns a {@link DoubleResult} containing the result of applying the given mapping function to the Ok-Value if this
+     * LongResult is an instance of {@link LongOk}, otherwise returns a {@link DoubleErr} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped DoubleResult
+     * @throws NullPointerException if the mapping function is null and this LongResult is an instance of {@link LongOk}
+     */
+    DoubleResult<E> mapToDouble(final LongToDoubleFunction okMapper);
+
+    /**
+     * Returns a Result containing the result of applying the given mapping function to the Ok-Value if this
+     * LongResult is an instance of {@link LongOk}, otherwise returns an {@link Err} with the same Err-Value.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped Result
+     * @throws NullPointerException if the mapping function is null and this LongResult is an instance of {@link LongOk}
+     */
+    <U> Result<U, E> mapToObj(final LongFunction<? extends U> okMapper);
+
+    /**
+     * Returns the LongResult produced by applying the given mapping function to the Ok-Value if this
+     * LongResult is an instance of {@link LongOk}, otherwise returns the {@link LongErr} as is.
+     *
+     * @param okMapper the mapping function
+     * @return the LongResult produced by the mapping function, or this LongResult if it is an instance of {@link LongErr}
+     * @throws NullPointerException if the mapping function is null and this LongResult is an instance of {@link LongOk}
+     */
+    LongResult<E> flatMap(final LongFunction<? extends LongResult<E>> okMapper);
+
+    /**
+     * Runs the corresponding consumer on the Ok-Value or the Err-Value of this LongResult.
+     *
+     * @param okConsumer  the consumer to invoke with the Ok-Value, if this LongResult is an instance of {@link LongOk}
+     * @param errConsumer the consumer to invoke with the Err-Value, if this LongResult is an instance of {@link LongErr}
+     */
+    void match(final LongConsumer okConsumer, final Consumer<? super E> errConsumer);
+
+    /**
+     * Converts this LongResult into a generic Result, boxing the Ok-Value.
+     *
+     * @return an {@link Ok} with the boxed Ok-Value, or an {@link Err} with the same Err-Value
+     */
+    Result<Long, E> toResult();
+
+    /**
+     * @return a LongStream containing the Ok-Value, or an empty LongStream if this LongResult is an instance of {@link LongErr}
+     */
+    LongStream stream();
+}
@@ -7,15 +7,22 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
 public record Ok<T, Void>(T okValue) implements Result<T, Void> {
+
+    private static final Ok<?, ?> EMPTY = new Ok<>(null);
+
     public static <T, Void> Ok<T, Void> of(final T okValue) {
         return new Ok<>(Objects.requireNonNull(okValue));
     }
 
+    @SuppressWarnings("unchecked")
     public static <Void> Ok<java.lang.Void, Void> empty() {
-        return new Ok<>(null);
+        return (Ok<java.lang.Void, Void>) EMPTY;
     }
 
     @Override
@@ -117,6 +124,21 @@ public record Ok<T, Void>(T okValue) implements Result<T, Void> {
         return okMapper.apply(okValue);
     }
 
+    @Override
+    public IntResult<Void> mapToInt(final ToIntFunction<? super T> okMapper) {
+        return IntOk.of(okMapper.applyAsInt(okValue));
+    }
+
+    @Override
+    public LongResult<Void> mapToLong(final ToLongFunction<? super T> okMapper) {
+        return LongOk.of(okMapper.applyAsLong(okValue));
+    }
+
+    @Override
+    public DoubleResult<Void> mapToDouble(final ToDoubleFunction<? super T> okMapper) {
+        return DoubleOk.of(okMapper.applyAsDouble(okValue));
+    }
+
     @Override
     public Result<T, Void> peekOk(final Consumer<? super T> okConsumer) {
         okConsumer.accept(okValue);
@@ -140,7 +162,7 @@ public record Ok<T, Void>(T okValue) implements Result<T, Void> {
 
     @Override
     public Result<T, NoSuchElementException> filter(final Predicate<? super T> condition) {
-        return condition.test(okValue) ? Ok.of(okValue) : Err.of(new NoSuchElementException("Ok-Value of the Result did not pass the given condition"));
+        return condition.test(okValue) ? withErrType() : ResultExceptions.filterRejected();
     }
 
     @Override
@@ -153,6 +175,11 @@ public record Ok<T, Void>(T okValue) implements Result<T, Void> {
         return Stream.of(okValue).flatMap(flatMapper);
     }
 
+    @SuppressWarnings("unchecked")
+    private <F> Ok<T, F> withErrType() {
+        return (Ok<T, F>) this;
+    }
+
     @Override
     public boolean equals(final Object other) {
         return other instanceof Ok<?, ?> otherOk && Objects.equals(otherOk.okValue, okValue);
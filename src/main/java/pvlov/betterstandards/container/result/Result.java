@@ -9,6 +9,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
 /**
@@ -35,6 +38,9 @@ public sealed interface Result<T, E> permits Ok, Err {
         try {
             return Ok.of(supplier.get());
         } catch (final RuntimeException err) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(err);
+            }
             return Err.of(err);
         }
     }
@@ -53,6 +59,9 @@ public sealed interface Result<T, E> permits Ok, Err {
             runnable.run();
             return Ok.empty();
         } catch (final RuntimeException err) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(err);
+            }
             return Err.of(err);
         }
     }
@@ -74,6 +83,9 @@ public sealed interface Result<T, E> permits Ok, Err {
         try {
             return Ok.of(supplier.get());
         } catch (final Throwable throwable) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(throwable);
+            }
             return Err.of((E) throwable);
         }
     }
@@ -94,19 +106,23 @@ public sealed interface Result<T, E> permits Ok, Err {
             runnable.run();
             return Ok.empty();
         } catch (final Throwable throwable) {
+            if (ResultMetrics.ENABLED) {
+                ResultMetrics.recordCaught(throwable);
+            }
             return Err.of((E) throwable);
         }
     }
 
 
     /**
-     * If the Result is an instance of {@link Ok}, returns the Ok-value, otherwise throws a RuntimeException.
+     * If the Result is an instance of {@link Ok}, returns the Ok-value, otherwise throws a {@link ResultUnwrapException}
+     * carrying the Err-value.
      * If the Result is an instance of an empty {@link Ok} (as created by Ok.empty()), this will return null.
      *
      * @return the Ok-value if the Result is an instance of {@link Ok}
-     * @throws RuntimeException if the Result is an instance of {@link Err}
+     * @throws ResultUnwrapException if the Result is an instance of {@link Err}
      */
-    T unwrap() throws RuntimeException;
+    T unwrap() throws ResultUnwrapException;
 
     /**
      * If the Result is an instance of {@link Ok}, returns true, otherwise false.
@@ -222,14 +238,14 @@ public sealed interface Result<T, E> permits Ok, Err {
 
     /**
      * This method returns the Ok-value if the Result is an instance of {@link Ok}, otherwise
-     * it will throw a RuntimeException using the given Message-String.
-     * It is meant to be used the same way assert() or unwrap() is used, thus the thrown RuntimeException should not be caught.
+     * it will throw a {@link ResultUnwrapException} using the given Message-String and carrying the Err-value.
+     * It is meant to be used the same way assert() or unwrap() is used, thus the thrown exception should not be caught.
      *
      * @param message the failure message
      * @return the Ok-value if the Result is an instance of {@link Ok}, otherwise nothing
-     * @throws RuntimeException if the Result is an instance of {@link Err}
+     * @throws ResultUnwrapException if the Result is an instance of {@link Err}
      */
-    T expect(final String message) throws RuntimeException;
+    T expect(final String message) throws ResultUnwrapException;
 
     /**
      * This method coerces a Result into an Optional by wrapping the Ok-value into an Optional if the Result is an instance of {@link Ok},
@@ -296,6 +312,39 @@ public sealed interface Result<T, E> permits Ok, Err {
      */
     <U> Result<U, E> flatMap(final Function<? super T, ? extends Result<U, E>> okMapper);
 
+    /**
+     * Returns an {@link IntResult} containing the result of applying the given int-valued mapping function to the Ok-Value if
+     * this Result is an instance of {@link Ok}, otherwise returns an {@link IntErr} with the same Err-Value.
+     * The mapped value is never boxed.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped IntResult
+     * @throws NullPointerException if the mapper function is null and the Result is an instance of {@link Ok}.
+     */
+    IntResult<E> mapToInt(final ToIntFunction<? super T> okMapper);
+
+    /**
+     * Returns an {@link LongResult} containing the result of applying the given long-valued mapping function to the Ok-Value if
+     * this Result is an instance of {@link Ok}, otherwise returns an {@link LongErr} with the same Err-Value.
+     * The mapped value is never boxed.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped LongResult
+     * @throws NullPointerException if the mapper function is null and the Result is an instance of {@link Ok}.
+     */
+    LongResult<E> mapToLong(final ToLongFunction<? super T> okMapper);
+
+    /**
+     * Returns an {@link DoubleResult} containing the result of applying the given double-valued mapping function to the Ok-Value if
+     * this Result is an instance of {@link Ok}, otherwise returns an {@link DoubleErr} with the same Err-Value.
+     * The mapped value is never boxed.
+     *
+     * @param okMapper the mapping function
+     * @return the mapped DoubleResult
+     * @throws NullPointerException if the mapper function is null and the Result is an instance of {@link Ok}.
+     */
+    DoubleResult<E> mapToDouble(final ToDoubleFunction<? super T> okMapper);
+
     /**
      * Peeks at the Ok-Value of this Result, if it is an instance of {@link Ok},
      * and invokes the given consumer with the Ok-Value.
@@ -336,7 +385,8 @@ public sealed interface Result<T, E> permits Ok, Err {
 
     /**
      * Applies the given predicate to the Ok-Value of this Result if it is an instance of {@link Ok} and returns an {@link Ok} if
-     * the given Predicate returns true for the Ok-Value. Otherwise, this returns an {@link Err} containing a {@link NoSuchElementException}
+     * the given Predicate returns true for the Ok-Value. Otherwise, this returns an {@link Err} containing a {@link NoSuchElementException}.
+     * If lightweight exceptions are enabled (see {@link ResultUnwrapException}), the rejection is a new exception without a stack trace.
      *
      * @param condition the condition to check
      * @return A Result containing the unchanged Ok-Value if it passes the given Predicate-test, otherwise an Err with a NoSuchElementException
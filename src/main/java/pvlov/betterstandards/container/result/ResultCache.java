@@ -0,0 +1,220 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.functional.ExceptionallyFunction;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, thread-safe cache of the Results of an {@link ExceptionallyFunction}. Both outcomes are cached, each with
+ * its own time to live, so that a failing lookup is not retried by every caller right away. Concurrent callers asking
+ * for the same key share a single invocation of the loading function.
+ * <p>
+ * When the cache is full, the least recently used entry is evicted. The loading function is never invoked while a lock
+ * is held, but it must not ask the cache for the key it is currently loading, as that call would wait for itself.
+ *
+ * @param <K> The Key-Type
+ * @param <V> The Ok-Type
+ * @param <E> The Error-Type
+ */
+public final class ResultCache<K, V, E extends Throwable> {
+
+    private final ExceptionallyFunction<? super K, ? extends V, E> loader;
+    private final int maximumSize;
+    private final long okTtlNanos;
+    private final long errTtlNanos;
+    private final LongSupplier nanoClock;
+    // access-ordered, so iteration starts at the least recently used entry; guarded by itself
+    private final LinkedHashMap<K, Entry<V, E>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private ResultCache(final ExceptionallyFunction<? super K, ? extends V, E> loader, final int maximumSize, final Duration okTtl, final Duration errTtl, final LongSupplier nanoClock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1: " + maximumSize);
+        }
+        if (okTtl.isNegative() || errTtl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative");
+        }
+        this.loader = loader;
+        this.maximumSize = maximumSize;
+        this.okTtlNanos = saturatedNanos(okTtl);
+        this.errTtlNanos = saturatedNanos(errTtl);
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @param loader      the function computing the value for a key
+     * @param maximumSize the maximum number of cached entries
+     * @param okTtl       how long an {@link Ok} is cached
+     * @param errTtl      how long an {@link Err} is cached, {@link Duration#ZERO} to not cache failures at all
+     * @return an empty ResultCache
+     */
+    public static <K, V, E extends Throwable> ResultCache<K, V, E> of(final ExceptionallyFunction<? super K, ? extends V, E> loader, final int maximumSize, final Duration okTtl, final Duration errTtl) {
+        return of(loader, maximumSize, okTtl, errTtl, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock the time source in nanoseconds, {@link System#nanoTime()} unless time needs to be controlled
+     * @see #of(ExceptionallyFunction, int, Duration, Duration)
+     */
+    public static <K, V, E extends Throwable> ResultCache<K, V, E> of(final ExceptionallyFunction<? super K, ? extends V, E> loader, final int maximumSize, final Duration okTtl, final Duration errTtl, final LongSupplier nanoClock) {
+        return new ResultCache<>(loader, maximumSize, okTtl, errTtl, nanoClock);
+    }
+
+    /**
+     * Returns the cached Result for the given key. If there is none, or it has expired, the loading function is invoked
+     * like {@link Result#ofChecked(pvlov.betterstandards.functional.ExceptionallySupplier)} would. If another thread is
+     * already loading the key, waits for that thread's Result instead.
+     *
+     * @param key the key to look up
+     * @return the Result of the loading function for the given key
+     */
+    public Result<V, E> get(final K key) {
+        final Entry<V, E> entry;
+        final boolean owner;
+        synchronized (entries) {
+            final Entry<V, E> existing = liveEntry(key);
+            if (existing != null) {
+                hits.increment();
+                entry = existing;
+                owner = false;
+            } else {
+                misses.increment();
+                entry = new Entry<>();
+                entries.put(key, entry);
+                evictOverflow();
+                owner = true;
+            }
+        }
+        if (owner) {
+            load(key, entry);
+        }
+        return entry.future.join();
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the cached Result for the given key, or an empty Optional if it is absent, expired or still loading
+     */
+    public Optional<Result<V, E>> getIfPresent(final K key) {
+        synchronized (entries) {
+            final Entry<V, E> entry = liveEntry(key);
+            if (entry == null || !entry.future.isDone()) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.future.join());
+        }
+    }
+
+    public void invalidate(final K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the number of entries, including expired ones that have not been cleaned up yet and ones still loading
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private void load(final K key, final Entry<V, E> entry) {
+        final Result<V, E> result = Result.ofChecked(() -> loader.apply(key));
+        final long ttl = result.isOk() ? okTtlNanos : errTtlNanos;
+        entry.expiresAt = nanoClock.getAsLong() + ttl;
+        entry.future.complete(result);
+        if (ttl == 0) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Must be called while holding the lock. Removes the entry for the given key if it has expired.
+     */
+    private Entry<V, E> liveEntry(final K key) {
+        final Entry<V, E> entry = entries.get(key);
+        if (entry != null && entry.future.isDone() && nanoClock.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            expirations.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Must be called while holding the lock. Callers waiting for an evicted entry that is still loading
+     * still receive its Result.
+     */
+    private void evictOverflow() {
+        final Iterator<Map.Entry<K, Entry<V, E>>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (entries.size() > maximumSize) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long saturatedNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException tooLong) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache(size=" + size() + ", maximumSize=" + maximumSize + ", " + stats() + ")";
+    }
+
+    /**
+     * A snapshot of the counters of a ResultCache.
+     *
+     * @param hits        the number of lookups answered from the cache, including ones that waited for a concurrent load
+     * @param misses      the number of lookups that found no live entry
+     * @param evictions   the number of entries removed to stay within the maximum size
+     * @param expirations the number of entries removed because their time to live had passed
+     */
+    public record Stats(long hits, long misses, long evictions, long expirations) {
+
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Entry<V, E> {
+
+        private final CompletableFuture<Result<V, E>> future = new CompletableFuture<>();
+        // written before the future is completed, so it is visible to everyone who observes the completion
+        private long expiresAt;
+    }
+}
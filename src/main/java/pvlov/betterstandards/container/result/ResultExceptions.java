@@ -0,0 +1,48 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Central place for the failures that Results create themselves. When {@link #LIGHTWEIGHT} is enabled, the
+ * failures of {@link Result#filter(java.util.function.Predicate)} are created without capturing a stack trace.
+ * <p>
+ * They are not shared between rejections: NoSuchElementException offers no constructor that disables suppression, so
+ * a shared instance would collect the suppressed exceptions of every caller.
+ */
+final class ResultExceptions {
+
+    static final boolean LIGHTWEIGHT = Boolean.getBoolean(ResultUnwrapException.LIGHTWEIGHT_PROPERTY);
+
+    private static final String FILTER_REJECTED_MESSAGE = "Ok-Value of the Result did not pass the given condition";
+    private static final String FILTER_ON_ERR_MESSAGE = "Calling filter() on Err!";
+
+    private ResultExceptions() {
+    }
+
+    static <T> Result<T, NoSuchElementException> filterRejected() {
+        return Err.of(noSuchElement(FILTER_REJECTED_MESSAGE));
+    }
+
+    static <T> Result<T, NoSuchElementException> filterOnErr() {
+        return Err.of(noSuchElement(FILTER_ON_ERR_MESSAGE));
+    }
+
+    private static NoSuchElementException noSuchElement(final String message) {
+        return LIGHTWEIGHT ? new StacklessNoSuchElementException(message) : new NoSuchElementException(message);
+    }
+
+    private static final class StacklessNoSuchElementException extends NoSuchElementException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StacklessNoSuchElementException(final String message) {
+            // an explicit null cause, so that initCause cannot attach one later
+            super(message, null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package pvlov.betterstandards.container.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pvlov.betterstandards.functional.ExceptionallySupplier;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in instrumentation of Results. If the system property {@value #ENABLED_PROPERTY} is set to true, the library
+ * counts the exceptions caught by {@link Result#of(Supplier)} and its siblings as well as failed unwraps of an
+ * {@link Err}, both per error class, and emits the Flight Recorder events {@code pvlov.betterstandards.CaughtException}
+ * and {@code pvlov.betterstandards.FailedUnwrap} for them. The latter carries the stack trace of the unwrap.
+ * <p>
+ * The switch is read once into a static final field, so with instrumentation disabled (the default) the JIT removes
+ * the hooks entirely and they cost nothing.
+ */
+public final class ResultMetrics {
+
+    public static final String ENABLED_PROPERTY = "pvlov.betterstandards.result.instrumentation";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final LongAdder CAUGHT = new LongAdder();
+    private static final LongAdder FAILED_UNWRAPS = new LongAdder();
+    private static final ConcurrentMap<Class<?>, LongAdder> CAUGHT_BY_TYPE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, LongAdder> FAILED_UNWRAPS_BY_TYPE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, TagCounters> BY_TAG = new ConcurrentHashMap<>();
+
+    private ResultMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Like {@link Result#of(Supplier)}, but additionally counts the outcome under the given tag, e.g. the name of the
+     * call site. Without instrumentation this is just {@link Result#of(Supplier)}.
+     *
+     * @param tag      the name to count the outcome under
+     * @param supplier the supplying-function that can throw a RuntimeException
+     * @return the Result of the supplying function
+     */
+    public static <T> Result<T, RuntimeException> of(final String tag, final Supplier<? extends T> supplier) {
+        return tagged(tag, Result.of(supplier));
+    }
+
+    /**
+     * Like {@link Result#ofChecked(ExceptionallySupplier)}, but additionally counts the outcome under the given tag.
+     *
+     * @param tag      the name to count the outcome under
+     * @param supplier the supplying-function that can throw a checked Exception
+     * @return the Result of the supplying function
+     */
+    public static <T, E extends Throwable> Result<T, E> ofChecked(final String tag, final ExceptionallySupplier<? extends T, E> supplier) {
+        return tagged(tag, Result.ofChecked(supplier));
+    }
+
+    /**
+     * Counts the outcome of an arbitrary Result under the given tag.
+     *
+     * @param tag    the name to count the outcome under
+     * @param result the Result to count
+     * @return the given Result
+     */
+    public static <T, E> Result<T, E> tagged(final String tag, final Result<T, E> result) {
+        if (ENABLED) {
+            final TagCounters counters = BY_TAG.computeIfAbsent(tag, ignored -> new TagCounters());
+            (result.isOk() ? counters.oks : counters.errs).increment();
+        }
+        return result;
+    }
+
+    /**
+     * @return the current values of all counters, all zero if instrumentation is disabled
+     */
+    public static Snapshot snapshot() {
+        final Map<String, TagSnapshot> byTag = new TreeMap<>();
+        BY_TAG.forEach((tag, counters) -> byTag.put(tag, new TagSnapshot(counters.oks.sum(), counters.errs.sum())));
+        return new Snapshot(CAUGHT.sum(), FAILED_UNWRAPS.sum(), sums(CAUGHT_BY_TYPE), sums(FAILED_UNWRAPS_BY_TYPE),
+                Collections.unmodifiableMap(byTag));
+    }
+
+    /**
+     * Sets all counters back to zero.
+     */
+    public static void reset() {
+        CAUGHT.reset();
+        FAILED_UNWRAPS.reset();
+        CAUGHT_BY_TYPE.clear();
+        FAILED_UNWRAPS_BY_TYPE.clear();
+        BY_TAG.clear();
+    }
+
+    /**
+     * Only call if {@link #ENABLED}.
+     */
+    static void recordCaught(final Throwable caught) {
+        CAUGHT.increment();
+        increment(CAUGHT_BY_TYPE, caught.getClass());
+        final CaughtExceptionEvent event = new CaughtExceptionEvent();
+        if (event.isEnabled()) {
+            event.exceptionClass = caught.getClass();
+            event.message = caught.getMessage();
+            event.commit();
+        }
+    }
+
+    /**
+     * Only call if {@link #ENABLED}.
+     */
+    static void recordFailedUnwrap(final Object errorValue) {
+        FAILED_UNWRAPS.increment();
+        final Class<?> errorClass = errorValue == null ? Void.class : errorValue.getClass();
+        increment(FAILED_UNWRAPS_BY_TYPE, errorClass);
+        final FailedUnwrapEvent event = new FailedUnwrapEvent();
+        if (event.isEnabled()) {
+            event.errorClass = errorClass;
+            event.errorValue = String.valueOf(errorValue);
+            event.commit();
+        }
+    }
+
+    private static void increment(final ConcurrentMap<Class<?>, LongAdder> counters, final Class<?> type) {
+        LongAdder counter = counters.get(type);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(type, ignored -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static Map<String, Long> sums(final ConcurrentMap<Class<?>, LongAdder> counters) {
+        final Map<String, Long> sums = new TreeMap<>();
+        counters.forEach((type, counter) -> sums.put(type.getName(), counter.sum()));
+        return Collections.unmodifiableMap(sums);
+    }
+
+    /**
+     * The counters at the time of {@link #snapshot()}, all maps are sorted by key and unmodifiable.
+     *
+     * @param caught              the number of exceptions caught by the Result factories
+     * @param failedUnwraps       the number of unwraps of an Err
+     * @param caughtByType        the caught exceptions per exception class name
+     * @param failedUnwrapsByType the failed unwraps per class name of the Error-Value
+     * @param byTag               the outcomes per tag, see {@link #of(String, Supplier)}
+     */
+    public record Snapshot(long caught, long failedUnwraps, Map<String, Long> caughtByType, Map<String, Long> failedUnwrapsByType,
+                           Map<String, TagSnapshot> byTag) {
+    }
+
+    public record TagSnapshot(long oks, long errs) {
+
+        public double errorRate() {
+            final long total = oks + errs;
+            return total == 0 ? 0.0 : (double) errs / total;
+        }
+    }
+
+    private static final class TagCounters {
+
+        private final LongAdder oks = new LongAdder();
+        private final LongAdder errs = new LongAdder();
+    }
+
+    @Name("pvlov.betterstandards.CaughtException")
+    @Label("Caught Exception")
+    @Category({"BetterStandards", "Result"})
+    @Description("An exception caught by a Result factory and turned into an Err")
+    static final class CaughtExceptionEvent extends Event {
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Message")
+        String message;
+    }
+
+    @Name("pvlov.betterstandards.FailedUnwrap")
+    @Label("Failed Unwrap")
+    @Category({"BetterStandards", "Result"})
+    @Description("The Ok-Value of an Err was requested")
+    static final class FailedUnwrapEvent extends Event {
+
+        @Label("Error Class")
+        Class<?> errorClass;
+
+        @Label("Error Value")
+        String errorValue;
+    }
+}
@@ -0,0 +1,33 @@
+package pvlov.betterstandards.container.result;
+
+/**
+ * Thrown when the Ok-Value of a Result is requested (e.g. by {@link Result#unwrap()} or {@link Result#expect(String)})
+ * but the Result is an instance of {@link Err}. The Error-Value of the {@link Err} is carried as the payload of the exception
+ * and, if it is a {@link Throwable} itself, also as its cause.
+ * <p>
+ * If the system property {@value #LIGHTWEIGHT_PROPERTY} is set to true, these exceptions are created without capturing
+ * a stack trace or collecting suppressed exceptions, which makes unwrapping an {@link Err} considerably cheaper.
+ */
+public class ResultUnwrapException extends RuntimeException {
+
+    public static final String LIGHTWEIGHT_PROPERTY = "pvlov.betterstandards.result.lightweightExceptions";
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object errorValue;
+
+    public ResultUnwrapException(final String message, final Object errorValue) {
+        super(message, errorValue instanceof Throwable cause ? cause : null, !ResultExceptions.LIGHTWEIGHT, !ResultExceptions.LIGHTWEIGHT);
+        this.errorValue = errorValue;
+        if (ResultMetrics.ENABLED) {
+            ResultMetrics.recordFailedUnwrap(errorValue);
+        }
+    }
+
+    /**
+     * @return the Error-Value of the {@link Err} that was unwrapped
+     */
+    public Object getErrorValue() {
+        return errorValue;
+    }
+}
@@ -0,0 +1,219 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.container.tuples.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Bulk operations over many Results. The Iterable- and Stream-based methods stop at the first {@link Err} and pre-size
+ * their output if the size of the input is known, the {@link Collector}s can be used on parallel Streams and keep the
+ * first {@link Err} in encounter order.
+ */
+public final class Results {
+
+    private Results() {
+    }
+
+    /**
+     * Turns the given Results into a single Result, which is an {@link Ok} with all Ok-Values in order, if every
+     * Result is an instance of {@link Ok}, otherwise the first {@link Err}. Stops at the first {@link Err}.
+     *
+     * @param results the Results to combine
+     * @return an {@link Ok} containing the list of Ok-Values, or the first {@link Err}
+     */
+    public static <T, E> Result<List<T>, E> sequence(final Iterable<? extends Result<? extends T, ? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Stream variant of {@link #sequence(Iterable)}. Sequential Streams stop at the first {@link Err},
+     * parallel Streams are collected using {@link #sequence()}.
+     *
+     * @param results the Results to combine
+     * @return an {@link Ok} containing the list of Ok-Values, or the first {@link Err}
+     */
+    public static <T, E> Result<List<T>, E> sequence(final Stream<? extends Result<? extends T, ? extends E>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies the given function to every element and combines the produced Results like {@link #sequence(Iterable)}.
+     * The function is not applied to any element after the first one that produced an {@link Err}.
+     *
+     * @param elements the elements to map
+     * @param mapper   the function producing a Result for each element
+     * @return an {@link Ok} containing the list of Ok-Values, or the first {@link Err}
+     */
+    public static <A, T, E> Result<List<T>, E> traverse(final Iterable<? extends A> elements,
+                                                        final Function<? super A, ? extends Result<? extends T, ? extends E>> mapper) {
+        final List<T> values = elements instanceof Collection<?> collection ? new ArrayList<>(collection.size()) : new ArrayList<>();
+        for (final A element : elements) {
+            final Result<? extends T, ? extends E> result = mapper.apply(element);
+            if (result instanceof Err<? extends T, ? extends E> err) {
+                return Err.of(err.errorValue());
+            }
+            values.add(((Ok<? extends T, ? extends E>) result).okValue());
+        }
+        return Ok.of(values);
+    }
+
+    /**
+     * Stream variant of {@link #traverse(Iterable, Function)}. Sequential Streams stop at the first {@link Err},
+     * parallel Streams are collected using {@link #traverse(Function)}.
+     *
+     * @param elements the elements to map
+     * @param mapper   the function producing a Result for each element
+     * @return an {@link Ok} containing the list of Ok-Values, or the first {@link Err}
+     */
+    public static <A, T, E> Result<List<T>, E> traverse(final Stream<? extends A> elements,
+                                                        final Function<? super A, ? extends Result<? extends T, ? extends E>> mapper) {
+        if (elements.isParallel()) {
+            return elements.collect(traverse(mapper));
+        }
+        final Spliterator<? extends A> spliterator = elements.spliterator();
+        final long size = spliterator.getExactSizeIfKnown();
+        final TraverseState<A, T, E> state = new TraverseState<>(mapper, size >= 0 && size <= Integer.MAX_VALUE ? (int) size : 10);
+        final Consumer<A> accumulator = state::accept;
+        boolean hasMore = true;
+        while (hasMore && state.err == null) {
+            hasMore = spliterator.tryAdvance(accumulator);
+        }
+        return state.finish();
+    }
+
+    /**
+     * Splits the given Results into their Ok-Values and their Err-Values, both in encounter order.
+     *
+     * @param results the Results to partition
+     * @return a Tuple of the Ok-Values and the Err-Values
+     */
+    public static <T, E> Tuple<List<T>, List<E>> partition(final Iterable<? extends Result<? extends T, ? extends E>> results) {
+        final PartitionState<T, E> state = new PartitionState<>();
+        for (final Result<? extends T, ? extends E> result : results) {
+            state.accept(result);
+        }
+        return Tuple.of(state.oks, state.errs);
+    }
+
+    /**
+     * A Collector version of {@link #sequence(Iterable)}. Once an {@link Err} has been accumulated, further Results are ignored.
+     *
+     * @return a Collector combining Results into an {@link Ok} of all Ok-Values or the first {@link Err}
+     */
+    public static <T, E> Collector<Result<? extends T, ? extends E>, ?, Result<List<T>, E>> sequence() {
+        return traverse(Function.identity());
+    }
+
+    /**
+     * A Collector version of {@link #traverse(Iterable, Function)}. Once an {@link Err} has been accumulated, the function
+     * is not applied to further elements of the same split.
+     *
+     * @param mapper the function producing a Result for each element
+     * @return a Collector combining the mapped Results into an {@link Ok} of all Ok-Values or the first {@link Err}
+     */
+    public static <A, T, E> Collector<A, ?, Result<List<T>, E>> traverse(final Function<? super A, ? extends Result<? extends T, ? extends E>> mapper) {
+        return Collector.of(() -> new TraverseState<A, T, E>(mapper, 10), TraverseState::accept, TraverseState::combine, TraverseState::finish);
+    }
+
+    /**
+     * A Collector version of {@link #partition(Iterable)}.
+     *
+     * @return a Collector splitting Results into a Tuple of the Ok-Values and the Err-Values
+     */
+    public static <T, E> Collector<Result<? extends T, ? extends E>, ?, Tuple<List<T>, List<E>>> partition() {
+        return Collector.of(PartitionState<T, E>::new, PartitionState::accept, PartitionState::combine, state -> Tuple.of(state.oks, state.errs));
+    }
+
+    /**
+     * @return a Collector gathering the Ok-Values of all {@link Ok}s, ignoring all {@link Err}s
+     */
+    public static <T> Collector<Result<? extends T, ?>, ?, List<T>> collectOks() {
+        return Collector.of(ArrayList<T>::new, (oks, result) -> {
+            if (result instanceof Ok<? extends T, ?> ok) {
+                oks.add(ok.okValue());
+            }
+        }, Results::concat);
+    }
+
+    /**
+     * @return a Collector gathering the Err-Values of all {@link Err}s, ignoring all {@link Ok}s
+     */
+    public static <E> Collector<Result<?, ? extends E>, ?, List<E>> collectErrs() {
+        return Collector.of(ArrayList<E>::new, (errs, result) -> {
+            if (result instanceof Err<?, ? extends E> err) {
+                errs.add(err.errorValue());
+            }
+        }, Results::concat);
+    }
+
+    private static <T> List<T> concat(final List<T> left, final List<T> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    private static final class TraverseState<A, T, E> {
+
+        private final Function<? super A, ? extends Result<? extends T, ? extends E>> mapper;
+        private final ArrayList<T> values;
+        private Err<? extends T, ? extends E> err;
+
+        private TraverseState(final Function<? super A, ? extends Result<? extends T, ? extends E>> mapper, final int expectedSize) {
+            this.mapper = mapper;
+            this.values = new ArrayList<>(expectedSize);
+        }
+
+        private void accept(final A element) {
+            if (err != null) {
+                return;
+            }
+            final Result<? extends T, ? extends E> result = mapper.apply(element);
+            if (result instanceof Err<? extends T, ? extends E> e) {
+                err = e;
+            } else {
+                values.add(((Ok<? extends T, ? extends E>) result).okValue());
+            }
+        }
+
+        private TraverseState<A, T, E> combine(final TraverseState<A, T, E> right) {
+            if (err != null) {
+                return this;
+            }
+            if (right.err != null) {
+                return right;
+            }
+            values.addAll(right.values);
+            return this;
+        }
+
+        private Result<List<T>, E> finish() {
+            return err != null ? Err.of(err.errorValue()) : Ok.of(values);
+        }
+    }
+
+    private static final class PartitionState<T, E> {
+
+        private final ArrayList<T> oks = new ArrayList<>();
+        private final ArrayList<E> errs = new ArrayList<>();
+
+        private void accept(final Result<? extends T, ? extends E> result) {
+            if (result instanceof Ok<? extends T, ? extends E> ok) {
+                oks.add(ok.okValue());
+            } else {
+                errs.add(((Err<? extends T, ? extends E>) result).errorValue());
+            }
+        }
+
+        private PartitionState<T, E> combine(final PartitionState<T, E> right) {
+            oks.addAll(right.oks);
+            errs.addAll(right.errs);
+            return this;
+        }
+    }
+}
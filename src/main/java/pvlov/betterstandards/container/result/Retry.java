@@ -0,0 +1,214 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.functional.ExceptionallyFunction;
+import pvlov.betterstandards.functional.ExceptionallySupplier;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Re-evaluates a supplying function that returned an {@link Err}, waiting exponentially longer between attempts.
+ * A Retry is immutable and thread-safe, the {@code with...} methods return modified copies.
+ * <p>
+ * Retrying an overloaded dependency makes its overload worse. A retry budget bounds the retries of all calls sharing
+ * a Retry to a fraction of these calls, so that retries cannot multiply the load when every call fails.
+ */
+public final class Retry {
+
+    private static final double DEFAULT_MULTIPLIER = 2.0;
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+    private static final double DEFAULT_JITTER = 0.5;
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate<? super Throwable> retryOn;
+    private final Budget budget;
+    private final Sleeper sleeper;
+
+    private Retry(final int maxAttempts, final long initialDelayNanos, final long maxDelayNanos, final double multiplier, final double jitter,
+                  final Predicate<? super Throwable> retryOn, final Budget budget, final Sleeper sleeper) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+        this.budget = budget;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Waits for the given duration, {@link Thread#sleep(long, int)} unless time needs to be controlled.
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(final Duration duration) throws InterruptedException;
+    }
+
+    /**
+     * @param maxAttempts  the maximum number of evaluations, including the first one
+     * @param initialDelay the delay before the first retry, it doubles for every further retry up to 30 seconds
+     * @return a Retry retrying on every Err, with 50% jitter and without a budget
+     */
+    public static Retry of(final int maxAttempts, final Duration initialDelay) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Maximum attempts must be at least 1: " + maxAttempts);
+        }
+        return new Retry(maxAttempts, nonNegativeNanos(initialDelay), nonNegativeNanos(DEFAULT_MAX_DELAY), DEFAULT_MULTIPLIER, DEFAULT_JITTER,
+                error -> true, null, duration -> TimeUnit.NANOSECONDS.sleep(duration.toNanos()));
+    }
+
+    /**
+     * @param multiplier the factor by which the delay grows after every retry, at least 1
+     */
+    public Retry withMultiplier(final double multiplier) {
+        if (!(multiplier >= 1)) {
+            throw new IllegalArgumentException("Multiplier must be at least 1: " + multiplier);
+        }
+        return new Retry(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn, budget, sleeper);
+    }
+
+    public Retry withMaxDelay(final Duration maxDelay) {
+        return new Retry(maxAttempts, initialDelayNanos, nonNegativeNanos(maxDelay), multiplier, jitter, retryOn, budget, sleeper);
+    }
+
+    /**
+     * @param jitter the fraction by which every delay is randomly shortened, between 0 (exact delays) and 1 (anywhere
+     *               between zero and the full delay). Randomizing delays keeps clients that failed at the same time
+     *               from retrying at the same time.
+     */
+    public Retry withJitter(final double jitter) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1: " + jitter);
+        }
+        return new Retry(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn, budget, sleeper);
+    }
+
+    /**
+     * @param retryOn decides whether an Error-Value is worth retrying, e.g. to not retry on validation errors
+     */
+    public Retry withRetryOn(final Predicate<? super Throwable> retryOn) {
+        return new Retry(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn, budget, sleeper);
+    }
+
+    /**
+     * Limits the retries of all calls made through the returned Retry (and copies of it). Every call earns
+     * {@code retryRatio} retries, every retry spends one, and at most {@code reserve} retries can be saved up.
+     *
+     * @param retryRatio the number of retries earned per call, e.g. 0.1 to allow retrying one call in ten
+     * @param reserve    the number of retries available initially and the maximum that can be saved up, at least 1
+     */
+    public Retry withBudget(final double retryRatio, final int reserve) {
+        if (!(retryRatio >= 0)) {
+            throw new IllegalArgumentException("Retry ratio must not be negative: " + retryRatio);
+        }
+        if (reserve < 1) {
+            throw new IllegalArgumentException("Reserve must be at least 1: " + reserve);
+        }
+        return new Retry(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn, new Budget(retryRatio, reserve), sleeper);
+    }
+
+    public Retry withSleeper(final Sleeper sleeper) {
+        return new Retry(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn, budget, sleeper);
+    }
+
+    /**
+     * Evaluates the supplying function like {@link Result#ofChecked(ExceptionallySupplier)} until it returns an
+     * {@link Ok}, the Error-Value is not to be retried, the attempts or the budget are used up, or the thread is
+     * interrupted while waiting. In the latter case the interrupt flag is restored.
+     *
+     * @param supplier the supplying-function that can throw a checked Exception
+     * @return the Result of the last evaluation
+     */
+    public <T, E extends Throwable> Result<T, E> call(final ExceptionallySupplier<? extends T, E> supplier) {
+        if (budget != null) {
+            budget.deposit();
+        }
+        Result<T, E> result = Result.ofChecked(supplier);
+        long delayNanos = initialDelayNanos;
+        for (int attempt = 1; attempt < maxAttempts && shouldRetry(result); ++attempt) {
+            try {
+                sleeper.sleep(Duration.ofNanos(jittered(delayNanos)));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+            delayNanos = (long) Math.min(maxDelayNanos, delayNanos * multiplier);
+            result = Result.ofChecked(supplier);
+        }
+        return result;
+    }
+
+    /**
+     * @return a function that applies the given function through {@link #call(ExceptionallySupplier)}
+     */
+    public <A, R, E extends Throwable> Function<A, Result<R, E>> decorate(final ExceptionallyFunction<? super A, ? extends R, E> function) {
+        return argument -> call(() -> function.apply(argument));
+    }
+
+    private boolean shouldRetry(final Result<?, ? extends Throwable> result) {
+        return result instanceof Err<?, ? extends Throwable> err && retryOn.test(err.errorValue()) && (budget == null || budget.tryWithdraw());
+    }
+
+    private long jittered(final long delayNanos) {
+        return jitter == 0 ? delayNanos : (long) (delayNanos * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private static long nonNegativeNanos(final Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Delay must not be negative: " + duration);
+        }
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException tooLong) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Retry(maxAttempts=" + maxAttempts + ", initialDelay=" + Duration.ofNanos(initialDelayNanos) + ", multiplier=" + multiplier + ", jitter=" + jitter + ")";
+    }
+
+    /**
+     * A token bucket in thousandths of a retry, shared by all copies of a Retry.
+     */
+    private static final class Budget {
+
+        private static final long SCALE = 1000;
+
+        private final long deposit;
+        private final long capacity;
+        private final AtomicLong balance;
+
+        private Budget(final double retryRatio, final int reserve) {
+            this.deposit = Math.round(retryRatio * SCALE);
+            this.capacity = reserve * SCALE;
+            this.balance = new AtomicLong(capacity);
+        }
+
+        private void deposit() {
+            if (balance.get() < capacity) {
+                balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+            }
+        }
+
+        private boolean tryWithdraw() {
+            long current;
+            do {
+                current = balance.get();
+                if (current < SCALE) {
+                    return false;
+                }
+            } while (!balance.compareAndSet(current, current - SCALE));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package pvlov.betterstandards.container.result;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public record Valid<T, Void>(T value) implements Validation<T, Void> {
+
+    private static final Valid<?, ?> EMPTY = new Valid<>(null);
+
+    public static <T, Void> Valid<T, Void> of(final T value) {
+        return new Valid<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * The counterpart of {@link Ok#empty()}, e.g. for checks that only report errors.
+     */
+    @SuppressWarnings("unchecked")
+    public static <Void> Valid<java.lang.Void, Void> empty() {
+        return (Valid<java.lang.Void, Void>) EMPTY;
+    }
+
+    /**
+     * @return {@link #empty()} for a null value, so that empty Oks convert losslessly
+     */
+    @SuppressWarnings("unchecked")
+    static <T, Void> Valid<T, Void> ofNullable(final T value) {
+        return value == null ? (Valid<T, Void>) EMPTY : of(value);
+    }
+
+    @Override
+    public T unwrap() {
+        return value;
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return false;
+    }
+
+    @Override
+    public T orElse(final T defaultValue) {
+        return value;
+    }
+
+    @Override
+    public List<Void> errors() {
+        return List.of();
+    }
+
+    @Override
+    public <U> Validation<U, Void> map(final Function<? super T, ? extends U> mapper) {
+        return Valid.of(mapper.apply(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> Validation<T, F> mapErrors(final Function<? super Void, ? extends F> errorMapper) {
+        return (Validation<T, F>) this;
+    }
+
+    @Override
+    public <U> Validation<U, Void> flatMap(final Function<? super T, ? extends Validation<U, Void>> mapper) {
+        return mapper.apply(value);
+    }
+
+    @Override
+    public void match(final Consumer<? super T> validConsumer, final Consumer<? super ErrorChain<Void>> invalidConsumer) {
+        validConsumer.accept(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<T, ErrorChain<Void>> toResult() {
+        return value == null ? (Result<T, ErrorChain<Void>>) (Result<?, ?>) Ok.empty() : Ok.of(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Valid(" + value + ")";
+    }
+}
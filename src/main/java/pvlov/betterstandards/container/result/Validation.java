@@ -0,0 +1,279 @@
+package pvlov.betterstandards.container.result;
+
+import pvlov.betterstandards.container.tuples.Quadruple;
+import pvlov.betterstandards.container.tuples.Triple;
+import pvlov.betterstandards.container.tuples.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Validations are the fail-slow counterpart to {@link Result}. Where {@link Result#flatMap(Function)} stops at the first error,
+ * combining Validations (e.g. with {@link #combine(Validation, Validation)}) collects the errors of all invalid inputs
+ * into an {@link ErrorChain}. A Validation is either {@link Valid} and holds a value, or {@link Invalid} and holds
+ * at least one error.
+ *
+ * @param <T> The Valid-Type
+ * @param <E> The Error-Type
+ */
+public sealed interface Validation<T, E> permits Valid, Invalid {
+
+    /**
+     * Converts a Result into a Validation. An {@link Err} becomes an {@link Invalid} with a single error,
+     * {@link Ok#empty()} becomes {@link Valid#empty()}.
+     *
+     * @param result the Result to convert
+     * @return a {@link Valid} with the Ok-Value or an {@link Invalid} with the Err-Value
+     */
+    static <T, E> Validation<T, E> fromResult(final Result<? extends T, ? extends E> result) {
+        if (result instanceof Ok<? extends T, ? extends E> ok) {
+            return Valid.ofNullable(ok.okValue());
+        }
+        return Invalid.of(((Err<? extends T, ? extends E>) result).errorValue());
+    }
+
+    /**
+     * Converts a Result as produced by {@link #toResult()} back into a Validation, keeping all errors.
+     *
+     * @param result the Result to convert
+     * @return a {@link Valid} with the Ok-Value or an {@link Invalid} with all errors of the Err-Value
+     */
+    static <T, E> Validation<T, E> fromAccumulatedResult(final Result<? extends T, ? extends ErrorChain<? extends E>> result) {
+        if (result instanceof Ok<? extends T, ? extends ErrorChain<? extends E>> ok) {
+            return Valid.ofNullable(ok.okValue());
+        }
+        return new Invalid<>(ErrorChain.widen(((Err<? extends T, ? extends ErrorChain<? extends E>>) result).errorValue()));
+    }
+
+    /**
+     * Combines two Validations. The result is {@link Valid} if both are valid, otherwise it is {@link Invalid} with the
+     * errors of all invalid inputs in argument order.
+     *
+     * @return a Validation of both values or of all errors
+     */
+    static <A, B, E> Validation<Tuple<A, B>, E> combine(final Validation<? extends A, ? extends E> a,
+                                                        final Validation<? extends B, ? extends E> b) {
+        final ErrorChain<E> errors = errorsOf(a, b);
+        if (errors != null) {
+            return new Invalid<>(errors);
+        }
+        return Valid.of(Tuple.of(a.unwrap(), b.unwrap()));
+    }
+
+    /**
+     * Combines three Validations, see {@link #combine(Validation, Validation)}.
+     *
+     * @return a Validation of all three values or of all errors
+     */
+    static <A, B, C, E> Validation<Triple<A, B, C>, E> combine(final Validation<? extends A, ? extends E> a,
+                                                               final Validation<? extends B, ? extends E> b,
+                                                               final Validation<? extends C, ? extends E> c) {
+        final ErrorChain<E> errors = errorsOf(a, b, c);
+        if (errors != null) {
+            return new Invalid<>(errors);
+        }
+        return Valid.of(Triple.of(a.unwrap(), b.unwrap(), c.unwrap()));
+    }
+
+    /**
+     * Combines four Validations, see {@link #combine(Validation, Validation)}.
+     *
+     * @return a Validation of all four values or of all errors
+     */
+    static <A, B, C, D, E> Validation<Quadruple<A, B, C, D>, E> combine(final Validation<? extends A, ? extends E> a,
+                                                                        final Validation<? extends B, ? extends E> b,
+                                                                        final Validation<? extends C, ? extends E> c,
+                                                                        final Validation<? extends D, ? extends E> d) {
+        final ErrorChain<E> errors = errorsOf(a, b, c, d);
+        if (errors != null) {
+            return new Invalid<>(errors);
+        }
+        return Valid.of(Quadruple.of(a.unwrap(), b.unwrap(), c.unwrap(), d.unwrap()));
+    }
+
+    /**
+     * Evaluates two independent checks in parallel on the given Executor and combines them like
+     * {@link #combine(Validation, Validation)}. Blocks until both checks have completed.
+     * If a check throws a RuntimeException, it is rethrown once all checks have completed.
+     *
+     * @param executor the Executor to run the checks on
+     * @return a Validation of both values or of all errors
+     */
+    static <A, B, E> Validation<Tuple<A, B>, E> combine(final Executor executor,
+                                                        final Supplier<? extends Validation<? extends A, ? extends E>> a,
+                                                        final Supplier<? extends Validation<? extends B, ? extends E>> b) {
+        final CompletableFuture<? extends Validation<? extends A, ? extends E>> futureA = CompletableFuture.supplyAsync(a, executor);
+        final CompletableFuture<? extends Validation<? extends B, ? extends E>> futureB = CompletableFuture.supplyAsync(b, executor);
+        awaitAll(futureA, futureB);
+        return combine(futureA.join(), futureB.join());
+    }
+
+    /**
+     * Evaluates three independent checks in parallel on the given Executor, see {@link #combine(Executor, Supplier, Supplier)}.
+     *
+     * @param executor the Executor to run the checks on
+     * @return a Validation of all three values or of all errors
+     */
+    static <A, B, C, E> Validation<Triple<A, B, C>, E> combine(final Executor executor,
+                                                               final Supplier<? extends Validation<? extends A, ? extends E>> a,
+                                                               final Supplier<? extends Validation<? extends B, ? extends E>> b,
+                                                               final Supplier<? extends Validation<? extends C, ? extends E>> c) {
+        final CompletableFuture<? extends Validation<? extends A, ? extends E>> futureA = CompletableFuture.supplyAsync(a, executor);
+        final CompletableFuture<? extends Validation<? extends B, ? extends E>> futureB = CompletableFuture.supplyAsync(b, executor);
+        final CompletableFuture<? extends Validation<? extends C, ? extends E>> futureC = CompletableFuture.supplyAsync(c, executor);
+        awaitAll(futureA, futureB, futureC);
+        return combine(futureA.join(), futureB.join(), futureC.join());
+    }
+
+    /**
+     * Evaluates four independent checks in parallel on the given Executor, see {@link #combine(Executor, Supplier, Supplier)}.
+     *
+     * @param executor the Executor to run the checks on
+     * @return a Validation of all four values or of all errors
+     */
+    static <A, B, C, D, E> Validation<Quadruple<A, B, C, D>, E> combine(final Executor executor,
+                                                                        final Supplier<? extends Validation<? extends A, ? extends E>> a,
+                                                                        final Supplier<? extends Validation<? extends B, ? extends E>> b,
+                                                                        final Supplier<? extends Validation<? extends C, ? extends E>> c,
+                                                                        final Supplier<? extends Validation<? extends D, ? extends E>> d) {
+        final CompletableFuture<? extends Validation<? extends A, ? extends E>> futureA = CompletableFuture.supplyAsync(a, executor);
+        final CompletableFuture<? extends Validation<? extends B, ? extends E>> futureB = CompletableFuture.supplyAsync(b, executor);
+        final CompletableFuture<? extends Validation<? extends C, ? extends E>> futureC = CompletableFuture.supplyAsync(c, executor);
+        final CompletableFuture<? extends Validation<? extends D, ? extends E>> futureD = CompletableFuture.supplyAsync(d, executor);
+        awaitAll(futureA, futureB, futureC, futureD);
+        return combine(futureA.join(), futureB.join(), futureC.join(), futureD.join());
+    }
+
+    /**
+     * Combines any number of Validations into a Validation of the list of their values, or of the errors of all invalid ones.
+     *
+     * @param validations the Validations to combine
+     * @return a {@link Valid} with all values in order or an {@link Invalid} with all errors in order
+     */
+    static <T, E> Validation<List<T>, E> sequence(final Iterable<? extends Validation<? extends T, ? extends E>> validations) {
+        final List<T> values = validations instanceof Collection<?> collection ? new ArrayList<>(collection.size()) : new ArrayList<>();
+        ErrorChain<E> errors = null;
+        for (final Validation<? extends T, ? extends E> validation : validations) {
+            if (validation instanceof Invalid<? extends T, ? extends E> invalid) {
+                errors = errors == null ? ErrorChain.widen(invalid.errorChain()) : errors.concat(invalid.errorChain());
+            } else if (errors == null) {
+                values.add(validation.unwrap());
+            }
+        }
+        return errors != null ? new Invalid<>(errors) : Valid.of(values);
+    }
+
+    /**
+     * @return the concatenated errors of all invalid Validations, or null if all of them are valid
+     */
+    @SafeVarargs
+    private static <E> ErrorChain<E> errorsOf(final Validation<?, ? extends E>... validations) {
+        ErrorChain<E> errors = null;
+        for (final Validation<?, ? extends E> validation : validations) {
+            if (validation instanceof Invalid<?, ? extends E> invalid) {
+                errors = errors == null ? ErrorChain.widen(invalid.errorChain()) : errors.concat(invalid.errorChain());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Waits for all futures to complete and rethrows the exception of the first failed one.
+     */
+    private static void awaitAll(final CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * If the Validation is an instance of {@link Valid}, returns the value, otherwise throws a {@link ResultUnwrapException}
+     * carrying the {@link ErrorChain}.
+     *
+     * @return the value if the Validation is an instance of {@link Valid}
+     * @throws ResultUnwrapException if the Validation is an instance of {@link Invalid}
+     */
+    T unwrap() throws ResultUnwrapException;
+
+    /**
+     * @return true if the Validation is an instance of {@link Valid}, otherwise false
+     */
+    boolean isValid();
+
+    /**
+     * @return true if the Validation is an instance of {@link Invalid}, otherwise false
+     */
+    boolean isInvalid();
+
+    /**
+     * @param defaultValue the value to return if the Validation is an instance of {@link Invalid}
+     * @return the value if the Validation is an instance of {@link Valid}, else the provided default value
+     */
+    T orElse(final T defaultValue);
+
+    /**
+     * @return the errors in order if the Validation is an instance of {@link Invalid}, otherwise an empty List
+     */
+    List<E> errors();
+
+    /**
+     * Returns a new Validation containing the result of mapping the value using the provided mapper function if
+     * this Validation is an instance of {@link Valid}, otherwise returns the {@link Invalid} as is.
+     *
+     * @param mapper the mapper function
+     * @return the mapped Validation
+     * @throws NullPointerException if the mapper function is null and the Validation is an instance of {@link Valid}
+     */
+    <U> Validation<U, E> map(final Function<? super T, ? extends U> mapper);
+
+    /**
+     * Maps every error of this Validation if it is an instance of {@link Invalid}, otherwise returns the {@link Valid} as is.
+     *
+     * @param errorMapper the mapper function
+     * @return the Validation with mapped errors
+     * @throws NullPointerException if the mapper function is null and the Validation is an instance of {@link Invalid}
+     */
+    <F> Validation<T, F> mapErrors(final Function<? super E, ? extends F> errorMapper);
+
+    /**
+     * Returns the Validation produced by the mapper function if this Validation is an instance of {@link Valid},
+     * otherwise returns the {@link Invalid} as is. Like {@link Result#flatMap(Function)} this does not accumulate errors,
+     * use it for checks that depend on the value.
+     *
+     * @param mapper the mapper function
+     * @return the Validation produced by the mapper function, or this Validation if it is an instance of {@link Invalid}
+     * @throws NullPointerException if the mapper function is null and the Validation is an instance of {@link Valid}
+     */
+    <U> Validation<U, E> flatMap(final Function<? super T, ? extends Validation<U, E>> mapper);
+
+    /**
+     * Runs the corresponding consumer on the value or on the errors of this Validation.
+     *
+     * @param validConsumer   the consumer to invoke with the value, if this Validation is an instance of {@link Valid}
+     * @param invalidConsumer the consumer to invoke with the errors, if this Validation is an instance of {@link Invalid}
+     */
+    void match(final Consumer<? super T> validConsumer, final Consumer<? super ErrorChain<E>> invalidConsumer);
+
+    /**
+     * Converts this Validation into a Result without losing any errors. Use {@link #fromAccumulatedResult(Result)}
+     * to convert it back.
+     *
+     * @return an {@link Ok} with the value or an {@link Err} with the {@link ErrorChain} of all errors
+     */
+    Result<T, ErrorChain<E>> toResult();
+}
@@ -0,0 +1,428 @@
+package pvlov.betterstandards.container.tuples;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * One component of a columnar list like {@link TupleList}, stored in a single growable array. {@link OfInt},
+ * {@link OfLong} and {@link OfDouble} store their values in primitive arrays and offer unboxed access, so scanning
+ * them touches nothing but one contiguous array.
+ * <p>
+ * A column belongs to exactly one list. It can be read and updated in place through the list's accessors, its size
+ * however only changes through the list.
+ *
+ * @param <T> the (boxed) type of the values
+ */
+public abstract sealed class Column<T> permits Column.OfInt, Column.OfLong, Column.OfDouble, Column.OfObject {
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    int size;
+
+    Column() {
+    }
+
+    public static OfInt ofInt() {
+        return new OfInt(new int[INITIAL_CAPACITY], 0);
+    }
+
+    public static OfLong ofLong() {
+        return new OfLong(new long[INITIAL_CAPACITY], 0);
+    }
+
+    public static OfDouble ofDouble() {
+        return new OfDouble(new double[INITIAL_CAPACITY], 0);
+    }
+
+    public static <T> OfObject<T> ofObject() {
+        return new OfObject<>(new Object[INITIAL_CAPACITY], 0);
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * @return the value at the given index, boxed if the column is primitive
+     */
+    public abstract T get(final int index);
+
+    public abstract void set(final int index, final T value);
+
+    /**
+     * @return an independent copy of this column, e.g. to build a projection of some of the columns of a list
+     */
+    public abstract Column<T> copy();
+
+    abstract void add(final T value);
+
+    /**
+     * Throws if the given value cannot be stored in this column, so that a row can be checked completely before any
+     * of its columns is written.
+     *
+     * @throws NullPointerException if the value is null and the column is primitive
+     */
+    void checkValue(final T value) {
+        if (value == null) {
+            throw new NullPointerException("A primitive column cannot store null");
+        }
+    }
+
+    abstract void clear();
+
+    /**
+     * Compares the values at the given indices by their natural order, without boxing primitive values.
+     */
+    abstract int compareAt(final int i, final int j);
+
+    abstract int compareAt(final int i, final int j, final Comparator<? super T> comparator);
+
+    /**
+     * Reorders the values so that the value at index i afterwards is the value previously at {@code order[i]}.
+     */
+    abstract void permute(final int[] order);
+
+    final void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    static int grownCapacity(final int capacity) {
+        return Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1) + 1);
+    }
+
+    /**
+     * @return the indices {@code 0..size-1} stably sorted by the given comparison of two indices
+     */
+    static int[] sortedIndices(final int size, final IntBinaryOperator comparison) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; ++i) {
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width <<= 1) {
+            for (int from = 0; from < size; from += 2 * width) {
+                final int mid = Math.min(from + width, size);
+                final int to = Math.min(from + 2 * width, size);
+                int left = from;
+                int right = mid;
+                int out = from;
+                while (left < mid && right < to) {
+                    buffer[out++] = comparison.applyAsInt(order[right], order[left]) < 0 ? order[right++] : order[left++];
+                }
+                System.arraycopy(order, left, buffer, out, mid - left);
+                System.arraycopy(order, right, buffer, out + mid - left, to - right);
+            }
+            final int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    public static final class OfInt extends Column<Integer> {
+
+        private int[] values;
+
+        private OfInt(final int[] values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        public int getInt(final int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public void setInt(final int index, final int value) {
+            checkIndex(index);
+            values[index] = value;
+        }
+
+        public IntStream intStream() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        @Override
+        public Integer get(final int index) {
+            return getInt(index);
+        }
+
+        @Override
+        public void set(final int index, final Integer value) {
+            setInt(index, value);
+        }
+
+        @Override
+        public OfInt copy() {
+            return new OfInt(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void add(final Integer value) {
+            addInt(value);
+        }
+
+        void addInt(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[size++] = value;
+        }
+
+        @Override
+        void clear() {
+            size = 0;
+        }
+
+        @Override
+        int compareAt(final int i, final int j) {
+            return Integer.compare(values[i], values[j]);
+        }
+
+        @Override
+        int compareAt(final int i, final int j, final Comparator<? super Integer> comparator) {
+            return comparator.compare(values[i], values[j]);
+        }
+
+        @Override
+        void permute(final int[] order) {
+            final int[] permuted = new int[values.length];
+            for (int i = 0; i < size; ++i) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+
+    public static final class OfLong extends Column<Long> {
+
+        private long[] values;
+
+        private OfLong(final long[] values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        public long getLong(final int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public void setLong(final int index, final long value) {
+            checkIndex(index);
+            values[index] = value;
+        }
+
+        public LongStream longStream() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        @Override
+        public Long get(final int index) {
+            return getLong(index);
+        }
+
+        @Override
+        public void set(final int index, final Long value) {
+            setLong(index, value);
+        }
+
+        @Override
+        public OfLong copy() {
+            return new OfLong(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void add(final Long value) {
+            addLong(value);
+        }
+
+        void addLong(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[size++] = value;
+        }
+
+        @Override
+        void clear() {
+            size = 0;
+        }
+
+        @Override
+        int compareAt(final int i, final int j) {
+            return Long.compare(values[i], values[j]);
+        }
+
+        @Override
+        int compareAt(final int i, final int j, final Comparator<? super Long> comparator) {
+            return comparator.compare(values[i], values[j]);
+        }
+
+        @Override
+        void permute(final int[] order) {
+            final long[] permuted = new long[values.length];
+            for (int i = 0; i < size; ++i) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+
+    public static final class OfDouble extends Column<Double> {
+
+        private double[] values;
+
+        private OfDouble(final double[] values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        public double getDouble(final int index) {
+            checkIndex(index);
+            return values[index];
+        }
+
+        public void setDouble(final int index, final double value) {
+            checkIndex(index);
+            values[index] = value;
+        }
+
+        public DoubleStream doubleStream() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        @Override
+        public Double get(final int index) {
+            return getDouble(index);
+        }
+
+        @Override
+        public void set(final int index, final Double value) {
+            setDouble(index, value);
+        }
+
+        @Override
+        public OfDouble copy() {
+            return new OfDouble(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void add(final Double value) {
+            addDouble(value);
+        }
+
+        void addDouble(final double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[size++] = value;
+        }
+
+        @Override
+        void clear() {
+            size = 0;
+        }
+
+        @Override
+        int compareAt(final int i, final int j) {
+            return Double.compare(values[i], values[j]);
+        }
+
+        @Override
+        int compareAt(final int i, final int j, final Comparator<? super Double> comparator) {
+            return comparator.compare(values[i], values[j]);
+        }
+
+        @Override
+        void permute(final int[] order) {
+            final double[] permuted = new double[values.length];
+            for (int i = 0; i < size; ++i) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+
+    public static final class OfObject<T> extends Column<T> {
+
+        private Object[] values;
+
+        private OfObject(final Object[] values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(final int index) {
+            checkIndex(index);
+            return (T) values[index];
+        }
+
+        @Override
+        public void set(final int index, final T value) {
+            checkIndex(index);
+            values[index] = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Stream<T> stream() {
+            return (Stream<T>) Arrays.stream(values, 0, size);
+        }
+
+        @Override
+        public OfObject<T> copy() {
+            return new OfObject<>(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void checkValue(final T value) {
+        }
+
+        @Override
+        void add(final T value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length));
+            }
+            values[size++] = value;
+        }
+
+        @Override
+        void clear() {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+
+        /**
+         * @throws ClassCastException if the values are not Comparable
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        int compareAt(final int i, final int j) {
+            return ((Comparable<Object>) values[i]).compareTo(values[j]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int compareAt(final int i, final int j, final Comparator<? super T> comparator) {
+            return comparator.compare((T) values[i], (T) values[j]);
+        }
+
+        @Override
+        void permute(final int[] order) {
+            final Object[] permuted = new Object[values.length];
+            for (int i = 0; i < size; ++i) {
+                permuted[i] = values[order[i]];
+            }
+            values = permuted;
+        }
+    }
+}
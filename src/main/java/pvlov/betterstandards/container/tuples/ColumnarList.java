@@ -0,0 +1,74 @@
+package pvlov.betterstandards.container.tuples;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+/**
+ * The shared part of the struct-of-arrays lists: every component lives in its own {@link Column}, and a row only
+ * exists as an object while it is materialized by {@link #get(int)}.
+ *
+ * @param <E> the type of the materialized rows
+ */
+abstract class ColumnarList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Column<?>[] columns;
+
+    ColumnarList(final Column<?>... columns) {
+        for (int i = 0; i < columns.length; ++i) {
+            if (columns[i].size() != columns[0].size()) {
+                throw new IllegalArgumentException("All columns must have the same size");
+            }
+            for (int j = 0; j < i; ++j) {
+                // a shared column would receive every row twice and misalign all rows
+                if (columns[i] == columns[j]) {
+                    throw new IllegalArgumentException("Column " + j + " is also passed as column " + i);
+                }
+            }
+        }
+        this.columns = columns;
+    }
+
+    @Override
+    public final int size() {
+        return columns[0].size();
+    }
+
+    @Override
+    public final void clear() {
+        for (final Column<?> column : columns) {
+            column.clear();
+        }
+        ++modCount;
+    }
+
+    final void rowAdded() {
+        ++modCount;
+    }
+
+    final void checkIndex(final int index) {
+        columns[0].checkIndex(index);
+    }
+
+    /**
+     * Stably sorts all rows by the natural order of the given column.
+     */
+    final void sortByColumn(final int column) {
+        final Column<?> key = columns[column];
+        reorder(Column.sortedIndices(size(), key::compareAt));
+    }
+
+    /**
+     * Stably sorts all rows by the values of the given column in the order of the given comparator.
+     */
+    final <T> void sortByColumn(final Column<T> key, final Comparator<? super T> comparator) {
+        reorder(Column.sortedIndices(size(), (i, j) -> key.compareAt(i, j, comparator)));
+    }
+
+    private void reorder(final int[] order) {
+        for (final Column<?> column : columns) {
+            column.permute(order);
+        }
+        ++modCount;
+    }
+}
@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores a {@code double} and a {@code double} without boxing them.
+ */
+public record DoubleDoubleTuple(double first, double second) {
+
+    public static DoubleDoubleTuple of(final double a, final double b) {
+        return new DoubleDoubleTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return a DoubleDoubleTuple holding the unboxed components of the given Tuple
+     */
+    public static DoubleDoubleTuple fromTuple(final Tuple<? extends Double, ? extends Double> tuple) {
+        return new DoubleDoubleTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Double, Double> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores a {@code double} and an {@code int} without boxing them.
+ */
+public record DoubleIntTuple(double first, int second) {
+
+    public static DoubleIntTuple of(final double a, final int b) {
+        return new DoubleIntTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return a DoubleIntTuple holding the unboxed components of the given Tuple
+     */
+    public static DoubleIntTuple fromTuple(final Tuple<? extends Double, ? extends Integer> tuple) {
+        return new DoubleIntTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Double, Integer> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores a {@code double} and a {@code long} without boxing them.
+ */
+public record DoubleLongTuple(double first, long second) {
+
+    public static DoubleLongTuple of(final double a, final long b) {
+        return new DoubleLongTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return a DoubleLongTuple holding the unboxed components of the given Tuple
+     */
+    public static DoubleLongTuple fromTuple(final Tuple<? extends Double, ? extends Long> tuple) {
+        return new DoubleLongTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Double, Long> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
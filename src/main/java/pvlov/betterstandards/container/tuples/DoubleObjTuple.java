@@ -0,0 +1,25 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that holds a {@code double} and an object, storing the {@code double} without boxing it.
+ *
+ * @param <B> the type of the second component
+ */
+public record DoubleObjTuple<B>(double first, B second) {
+
+    public static <B> DoubleObjTuple<B> of(final double a, final B b) {
+        return new DoubleObjTuple<>(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, its first component may not be null
+     * @return a DoubleObjTuple holding the unboxed first component and the second component of the given Tuple
+     */
+    public static <B> DoubleObjTuple<B> fromTuple(final Tuple<? extends Double, ? extends B> tuple) {
+        return new DoubleObjTuple<>(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Double, B> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
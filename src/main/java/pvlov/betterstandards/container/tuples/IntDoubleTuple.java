@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores an {@code int} and a {@code double} without boxing them.
+ */
+public record IntDoubleTuple(int first, double second) {
+
+    public static IntDoubleTuple of(final int a, final double b) {
+        return new IntDoubleTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return an IntDoubleTuple holding the unboxed components of the given Tuple
+     */
+    public static IntDoubleTuple fromTuple(final Tuple<? extends Integer, ? extends Double> tuple) {
+        return new IntDoubleTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Integer, Double> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores an {@code int} and an {@code int} without boxing them.
+ */
+public record IntIntTuple(int first, int second) {
+
+    public static IntIntTuple of(final int a, final int b) {
+        return new IntIntTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return an IntIntTuple holding the unboxed components of the given Tuple
+     */
+    public static IntIntTuple fromTuple(final Tuple<? extends Integer, ? extends Integer> tuple) {
+        return new IntIntTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Integer, Integer> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
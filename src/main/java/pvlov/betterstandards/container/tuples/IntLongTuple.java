@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores an {@code int} and a {@code long} without boxing them.
+ */
+public record IntLongTuple(int first, long second) {
+
+    public static IntLongTuple of(final int a, final long b) {
+        return new IntLongTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return an IntLongTuple holding the unboxed components of the given Tuple
+     */
+    public static IntLongTuple fromTuple(final Tuple<? extends Integer, ? extends Long> tuple) {
+        return new IntLongTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Integer, Long> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,26 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that holds an {@code int} and an object, storing the {@code int} without boxing it.
+ * It is the unboxed form of the {@code Tuple<Integer, T>} elements of an {@link pvlov.betterstandards.iterator.Enumerator}.
+ *
+ * @param <B> the type of the second component
+ */
+public record IntObjTuple<B>(int first, B second) {
+
+    public static <B> IntObjTuple<B> of(final int a, final B b) {
+        return new IntObjTuple<>(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, its first component may not be null
+     * @return an IntObjTuple holding the unboxed first component and the second component of the given Tuple
+     */
+    public static <B> IntObjTuple<B> fromTuple(final Tuple<? extends Integer, ? extends B> tuple) {
+        return new IntObjTuple<>(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Integer, B> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,32 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * The hash functions shared by the key maps. Every key component is run through a full 64-bit finalizer before the
+ * components are combined, so composite keys with small, regular components (like grid coordinates) do not collide
+ * before their bits are spread.
+ */
+final class KeyMapHashing {
+
+    private KeyMapHashing() {
+    }
+
+    /**
+     * The finalizer of MurmurHash3 (fmix64), every input bit affects every output bit.
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Folds a mixed 64-bit hash to the int stored in a map's hash array, which never is 0 as 0 marks an empty slot.
+     */
+    static int fold(final long hash) {
+        final int folded = (int) (hash ^ (hash >>> 32));
+        return folded == 0 ? 1 : folded;
+    }
+}
@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores a {@code long} and a {@code double} without boxing them.
+ */
+public record LongDoubleTuple(long first, double second) {
+
+    public static LongDoubleTuple of(final long a, final double b) {
+        return new LongDoubleTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return a LongDoubleTuple holding the unboxed components of the given Tuple
+     */
+    public static LongDoubleTuple fromTuple(final Tuple<? extends Long, ? extends Double> tuple) {
+        return new LongDoubleTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Long, Double> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores a {@code long} and an {@code int} without boxing them.
+ */
+public record LongIntTuple(long first, int second) {
+
+    public static LongIntTuple of(final long a, final int b) {
+        return new LongIntTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return a LongIntTuple holding the unboxed components of the given Tuple
+     */
+    public static LongIntTuple fromTuple(final Tuple<? extends Long, ? extends Integer> tuple) {
+        return new LongIntTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Long, Integer> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
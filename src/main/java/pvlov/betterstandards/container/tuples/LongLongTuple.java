@@ -0,0 +1,23 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that stores a {@code long} and a {@code long} without boxing them.
+ */
+public record LongLongTuple(long first, long second) {
+
+    public static LongLongTuple of(final long a, final long b) {
+        return new LongLongTuple(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, neither of its components may be null
+     * @return a LongLongTuple holding the unboxed components of the given Tuple
+     */
+    public static LongLongTuple fromTuple(final Tuple<? extends Long, ? extends Long> tuple) {
+        return new LongLongTuple(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Long, Long> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
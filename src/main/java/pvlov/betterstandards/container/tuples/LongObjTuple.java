@@ -0,0 +1,25 @@
+package pvlov.betterstandards.container.tuples;
+
+/**
+ * An unboxed counterpart of {@link Tuple} that holds a {@code long} and an object, storing the {@code long} without boxing it.
+ *
+ * @param <B> the type of the second component
+ */
+public record LongObjTuple<B>(long first, B second) {
+
+    public static <B> LongObjTuple<B> of(final long a, final B b) {
+        return new LongObjTuple<>(a, b);
+    }
+
+    /**
+     * @param tuple the Tuple to convert, its first component may not be null
+     * @return a LongObjTuple holding the unboxed first component and the second component of the given Tuple
+     */
+    public static <B> LongObjTuple<B> fromTuple(final Tuple<? extends Long, ? extends B> tuple) {
+        return new LongObjTuple<>(tuple.first(), tuple.second());
+    }
+
+    public Tuple<Long, B> toTuple() {
+        return Tuple.of(first, second);
+    }
+}
@@ -0,0 +1,177 @@
+package pvlov.betterstandards.container.tuples;
+
+import java.util.Comparator;
+
+/**
+ * A List of {@link Quadruple}s that stores every component in its own {@link Column} instead of storing one object
+ * per row. Rows are materialized by {@link #get(int)} on demand, so prefer reading the columns directly, e.g.
+ * {@code list.first().get(i)}, or with the unboxed accessors of primitive columns. Scanning a single component
+ * then only touches the memory of that component. For a projection, combine copies of the wanted columns with
+ * {@link TupleList#ofColumns(Column, Column)} or {@link QuadrupleList#ofColumns(Column, Column, Column, Column)}.
+ * <p>
+ * Rows can be appended, replaced and sorted, but not removed individually.
+ * A row is checked against all columns before any column is written, so a rejected row, e.g. null for a primitive
+ * column, leaves the list unchanged.
+ *
+ * @param <A> the type of the first component
+ * @param <B> the type of the second component
+ * @param <C> the type of the third component
+ * @param <D> the type of the fourth component
+ */
+public final class QuadrupleList<A, B, C, D> extends ColumnarList<Quadruple<A, B, C, D>> {
+
+    private final Column<A> first;
+    private final Column<B> second;
+    private final Column<C> third;
+    private final Column<D> fourth;
+
+    private QuadrupleList(final Column<A> first, final Column<B> second, final Column<C> third, final Column<D> fourth) {
+        super(first, second, third, fourth);
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+    }
+
+    /**
+     * @return an empty QuadrupleList storing all components as objects
+     */
+    public static <A, B, C, D> QuadrupleList<A, B, C, D> of() {
+        return new QuadrupleList<>(Column.ofObject(), Column.ofObject(), Column.ofObject(), Column.ofObject());
+    }
+
+    /**
+     * Creates a QuadrupleList from the given columns, e.g. {@code QuadrupleList.ofColumns(Column.ofInt(), Column.ofDouble(), Column.ofObject(), Column.ofLong())}.
+     * The columns are owned by the QuadrupleList from now on and must not be part of any other list.
+     *
+     * @return a QuadrupleList whose rows consist of the values of the given columns
+     * @throws IllegalArgumentException if the columns differ in size or the same column is passed more than once
+     */
+    public static <A, B, C, D> QuadrupleList<A, B, C, D> ofColumns(final Column<A> first, final Column<B> second, final Column<C> third, final Column<D> fourth) {
+        return new QuadrupleList<>(first, second, third, fourth);
+    }
+
+    public Column<A> first() {
+        return first;
+    }
+
+    public Column<B> second() {
+        return second;
+    }
+
+    public Column<C> third() {
+        return third;
+    }
+
+    public Column<D> fourth() {
+        return fourth;
+    }
+
+    /**
+     * Materializes the row at the given index.
+     */
+    @Override
+    public Quadruple<A, B, C, D> get(final int index) {
+        checkIndex(index);
+        return Quadruple.of(first.get(index), second.get(index), third.get(index), fourth.get(index));
+    }
+
+    @Override
+    public Quadruple<A, B, C, D> set(final int index, final Quadruple<A, B, C, D> row) {
+        final Quadruple<A, B, C, D> previous = get(index);
+        first.checkValue(row.first());
+        second.checkValue(row.second());
+        third.checkValue(row.third());
+        fourth.checkValue(row.fourth());
+        first.set(index, row.first());
+        second.set(index, row.second());
+        third.set(index, row.third());
+        fourth.set(index, row.fourth());
+        return previous;
+    }
+
+    @Override
+    public boolean add(final Quadruple<A, B, C, D> row) {
+        addRow(row.first(), row.second(), row.third(), row.fourth());
+        return true;
+    }
+
+    /**
+     * Appends a row without creating a {@link Quadruple} for it.
+     */
+    public void addRow(final A a, final B b, final C c, final D d) {
+        first.checkValue(a);
+        second.checkValue(b);
+        third.checkValue(c);
+        fourth.checkValue(d);
+        first.add(a);
+        second.add(b);
+        third.add(c);
+        fourth.add(d);
+        rowAdded();
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their first component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortByFirst() {
+        sortByColumn(0);
+    }
+
+    /**
+     * Stably sorts the rows by their first component in the order of the given comparator.
+     */
+    public void sortByFirst(final Comparator<? super A> comparator) {
+        sortByColumn(first, comparator);
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their second component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortBySecond() {
+        sortByColumn(1);
+    }
+
+    /**
+     * Stably sorts the rows by their second component in the order of the given comparator.
+     */
+    public void sortBySecond(final Comparator<? super B> comparator) {
+        sortByColumn(second, comparator);
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their third component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortByThird() {
+        sortByColumn(2);
+    }
+
+    /**
+     * Stably sorts the rows by their third component in the order of the given comparator.
+     */
+    public void sortByThird(final Comparator<? super C> comparator) {
+        sortByColumn(third, comparator);
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their fourth component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortByFourth() {
+        sortByColumn(3);
+    }
+
+    /**
+     * Stably sorts the rows by their fourth component in the order of the given comparator.
+     */
+    public void sortByFourth(final Comparator<? super D> comparator) {
+        sortByColumn(fourth, comparator);
+    }
+}
@@ -0,0 +1,150 @@
+package pvlov.betterstandards.container.tuples;
+
+import java.util.Comparator;
+
+/**
+ * A List of {@link Triple}s that stores every component in its own {@link Column} instead of storing one object
+ * per row. Rows are materialized by {@link #get(int)} on demand, so prefer reading the columns directly, e.g.
+ * {@code list.first().get(i)}, or with the unboxed accessors of primitive columns. Scanning a single component
+ * then only touches the memory of that component. For a projection, combine copies of the wanted columns with
+ * {@link TupleList#ofColumns(Column, Column)} or {@link TripleList#ofColumns(Column, Column, Column)}.
+ * <p>
+ * Rows can be appended, replaced and sorted, but not removed individually.
+ * A row is checked against all columns before any column is written, so a rejected row, e.g. null for a primitive
+ * column, leaves the list unchanged.
+ *
+ * @param <A> the type of the first component
+ * @param <B> the type of the second component
+ * @param <C> the type of the third component
+ */
+public final class TripleList<A, B, C> extends ColumnarList<Triple<A, B, C>> {
+
+    private final Column<A> first;
+    private final Column<B> second;
+    private final Column<C> third;
+
+    private TripleList(final Column<A> first, final Column<B> second, final Column<C> third) {
+        super(first, second, third);
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    /**
+     * @return an empty TripleList storing all components as objects
+     */
+    public static <A, B, C> TripleList<A, B, C> of() {
+        return new TripleList<>(Column.ofObject(), Column.ofObject(), Column.ofObject());
+    }
+
+    /**
+     * Creates a TripleList from the given columns, e.g. {@code TripleList.ofColumns(Column.ofInt(), Column.ofDouble(), Column.ofObject())}.
+     * The columns are owned by the TripleList from now on and must not be part of any other list.
+     *
+     * @return a TripleList whose rows consist of the values of the given columns
+     * @throws IllegalArgumentException if the columns differ in size or the same column is passed more than once
+     */
+    public static <A, B, C> TripleList<A, B, C> ofColumns(final Column<A> first, final Column<B> second, final Column<C> third) {
+        return new TripleList<>(first, second, third);
+    }
+
+    public Column<A> first() {
+        return first;
+    }
+
+    public Column<B> second() {
+        return second;
+    }
+
+    public Column<C> third() {
+        return third;
+    }
+
+    /**
+     * Materializes the row at the given index.
+     */
+    @Override
+    public Triple<A, B, C> get(final int index) {
+        checkIndex(index);
+        return Triple.of(first.get(index), second.get(index), third.get(index));
+    }
+
+    @Override
+    public Triple<A, B, C> set(final int index, final Triple<A, B, C> row) {
+        final Triple<A, B, C> previous = get(index);
+        first.checkValue(row.first());
+        second.checkValue(row.second());
+        third.checkValue(row.third());
+        first.set(index, row.first());
+        second.set(index, row.second());
+        third.set(index, row.third());
+        return previous;
+    }
+
+    @Override
+    public boolean add(final Triple<A, B, C> row) {
+        addRow(row.first(), row.second(), row.third());
+        return true;
+    }
+
+    /**
+     * Appends a row without creating a {@link Triple} for it.
+     */
+    public void addRow(final A a, final B b, final C c) {
+        first.checkValue(a);
+        second.checkValue(b);
+        third.checkValue(c);
+        first.add(a);
+        second.add(b);
+        third.add(c);
+        rowAdded();
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their first component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortByFirst() {
+        sortByColumn(0);
+    }
+
+    /**
+     * Stably sorts the rows by their first component in the order of the given comparator.
+     */
+    public void sortByFirst(final Comparator<? super A> comparator) {
+        sortByColumn(first, comparator);
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their second component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortBySecond() {
+        sortByColumn(1);
+    }
+
+    /**
+     * Stably sorts the rows by their second component in the order of the given comparator.
+     */
+    public void sortBySecond(final Comparator<? super B> comparator) {
+        sortByColumn(second, comparator);
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their third component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortByThird() {
+        sortByColumn(2);
+    }
+
+    /**
+     * Stably sorts the rows by their third component in the order of the given comparator.
+     */
+    public void sortByThird(final Comparator<? super C> comparator) {
+        sortByColumn(third, comparator);
+    }
+}
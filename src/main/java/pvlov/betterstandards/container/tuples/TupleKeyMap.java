@@ -0,0 +1,226 @@
+package pvlov.betterstandards.container.tuples;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A map whose keys are pairs of components. Instead of being wrapped into a {@link Tuple} for every lookup, the key
+ * components are passed separately and stored inline in parallel arrays, so {@link #get}, {@link #put} and
+ * {@link #remove} never create a key object. Collisions are resolved by linear probing, and removals shift the
+ * following entries back instead of leaving tombstones behind.
+ * <p>
+ * Null values are allowed but make {@link #get} ambiguous, use {@link #containsKey} to tell them apart from missing
+ * keys. The map is not thread-safe.
+ *
+ * @param <A> the type of the first key component
+ * @param <B> the type of the second key component
+ * @param <V> the type of the values
+ */
+public final class TupleKeyMap<A, B, V> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float MAXIMUM_LOAD = 0.7f;
+
+    // the spread hash of every occupied slot, 0 marks an empty slot
+    private int[] hashes;
+    private Object[] firsts;
+    private Object[] seconds;
+    private Object[] values;
+    private int size;
+    private int threshold;
+
+    /**
+     * An action performed for every entry, see {@link #forEach(EntryConsumer)}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<A, B, V> {
+        void accept(A first, B second, V value);
+    }
+
+    public TupleKeyMap() {
+        this(MINIMUM_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedSize the number of entries the map should hold without resizing
+     */
+    public TupleKeyMap(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        final long slots = (long) Math.ceil(expectedSize / (double) MAXIMUM_LOAD);
+        allocate((int) Math.min(MAXIMUM_CAPACITY, Math.max(MINIMUM_CAPACITY, Long.highestOneBit(slots - 1) << 1)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the value for the given key, or null if there is none
+     */
+    public V get(final A first, final B second) {
+        final int slot = find(first, second);
+        return slot < 0 ? null : value(slot);
+    }
+
+    public V getOrDefault(final A first, final B second, final V defaultValue) {
+        final int slot = find(first, second);
+        return slot < 0 ? defaultValue : value(slot);
+    }
+
+    public boolean containsKey(final A first, final B second) {
+        return find(first, second) >= 0;
+    }
+
+    /**
+     * @return the value previously stored for the given key, or null if there was none
+     */
+    public V put(final A first, final B second, final V value) {
+        int slot = find(first, second);
+        if (slot >= 0) {
+            final V previous = value(slot);
+            values[slot] = value;
+            return previous;
+        }
+        slot = -(slot + 1);
+        hashes[slot] = hash(first, second);
+        firsts[slot] = first;
+        seconds[slot] = second;
+        values[slot] = value;
+        if (++size > threshold) {
+            allocate(hashes.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * @return the value previously stored for the given key, or null if there was none
+     */
+    public V remove(final A first, final B second) {
+        final int slot = find(first, second);
+        if (slot < 0) {
+            return null;
+        }
+        final V previous = value(slot);
+        final int mask = hashes.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; hashes[next] != 0; next = (next + 1) & mask) {
+            // an entry may fill the gap if the gap lies between its home slot and its current slot
+            final int home = hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                move(next, gap);
+                gap = next;
+            }
+        }
+        clearSlot(gap);
+        --size;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(hashes, 0);
+        Arrays.fill(firsts, null);
+        Arrays.fill(seconds, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for every entry in no particular order, without materializing the keys.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final EntryConsumer<? super A, ? super B, ? super V> action) {
+        for (int slot = 0; slot < hashes.length; ++slot) {
+            if (hashes[slot] != 0) {
+                action.accept((A) firsts[slot], (B) seconds[slot], value(slot));
+            }
+        }
+    }
+
+    /**
+     * @return the slot holding the given key, or {@code -(slot + 1)} for the empty slot where it would be inserted
+     */
+    private int find(final A first, final B second) {
+        final int hash = hash(first, second);
+        final int mask = hashes.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int slotHash = hashes[slot];
+            if (slotHash == 0) {
+                return -(slot + 1);
+            }
+            if (slotHash == hash && Objects.equals(first, firsts[slot]) && Objects.equals(second, seconds[slot])) {
+                return slot;
+            }
+        }
+    }
+
+    private static int hash(final Object first, final Object second) {
+        return KeyMapHashing.fold(KeyMapHashing.mix(Objects.hashCode(first)) * 31
+                + KeyMapHashing.mix(Objects.hashCode(second)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(final int slot) {
+        return (V) values[slot];
+    }
+
+    private void move(final int from, final int to) {
+        hashes[to] = hashes[from];
+        firsts[to] = firsts[from];
+        seconds[to] = seconds[from];
+        values[to] = values[from];
+    }
+
+    private void clearSlot(final int slot) {
+        hashes[slot] = 0;
+        firsts[slot] = null;
+        seconds[slot] = null;
+        values[slot] = null;
+    }
+
+    private void allocate(final int capacity) {
+        final int[] oldHashes = hashes;
+        final Object[] oldFirsts = firsts;
+        final Object[] oldSeconds = seconds;
+        final Object[] oldValues = values;
+        hashes = new int[capacity];
+        firsts = new Object[capacity];
+        seconds = new Object[capacity];
+        values = new Object[capacity];
+        threshold = (int) (capacity * MAXIMUM_LOAD);
+        if (oldHashes == null) {
+            return;
+        }
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldHashes.length; ++i) {
+            if (oldHashes[i] != 0) {
+                int slot = oldHashes[i] & mask;
+                while (hashes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                firsts[slot] = oldFirsts[i];
+                seconds[slot] = oldSeconds[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        forEach((first, second, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append("(").append(first).append(", ").append(second).append(")=").append(value);
+        });
+        return builder.append("}").toString();
+    }
+}
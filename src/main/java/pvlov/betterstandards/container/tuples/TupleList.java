@@ -0,0 +1,123 @@
+package pvlov.betterstandards.container.tuples;
+
+import java.util.Comparator;
+
+/**
+ * A List of {@link Tuple}s that stores every component in its own {@link Column} instead of storing one object
+ * per row. Rows are materialized by {@link #get(int)} on demand, so prefer reading the columns directly, e.g.
+ * {@code list.first().get(i)}, or with the unboxed accessors of primitive columns. Scanning a single component
+ * then only touches the memory of that component. For a projection, combine copies of the wanted columns with
+ * {@link TupleList#ofColumns(Column, Column)}.
+ * <p>
+ * Rows can be appended, replaced and sorted, but not removed individually.
+ * A row is checked against all columns before any column is written, so a rejected row, e.g. null for a primitive
+ * column, leaves the list unchanged.
+ *
+ * @param <A> the type of the first component
+ * @param <B> the type of the second component
+ */
+public final class TupleList<A, B> extends ColumnarList<Tuple<A, B>> {
+
+    private final Column<A> first;
+    private final Column<B> second;
+
+    private TupleList(final Column<A> first, final Column<B> second) {
+        super(first, second);
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * @return an empty TupleList storing all components as objects
+     */
+    public static <A, B> TupleList<A, B> of() {
+        return new TupleList<>(Column.ofObject(), Column.ofObject());
+    }
+
+    /**
+     * Creates a TupleList from the given columns, e.g. {@code TupleList.ofColumns(Column.ofInt(), Column.ofDouble())}.
+     * The columns are owned by the TupleList from now on and must not be part of any other list.
+     *
+     * @return a TupleList whose rows consist of the values of the given columns
+     * @throws IllegalArgumentException if the columns differ in size or the same column is passed more than once
+     */
+    public static <A, B> TupleList<A, B> ofColumns(final Column<A> first, final Column<B> second) {
+        return new TupleList<>(first, second);
+    }
+
+    public Column<A> first() {
+        return first;
+    }
+
+    public Column<B> second() {
+        return second;
+    }
+
+    /**
+     * Materializes the row at the given index.
+     */
+    @Override
+    public Tuple<A, B> get(final int index) {
+        checkIndex(index);
+        return Tuple.of(first.get(index), second.get(index));
+    }
+
+    @Override
+    public Tuple<A, B> set(final int index, final Tuple<A, B> row) {
+        final Tuple<A, B> previous = get(index);
+        first.checkValue(row.first());
+        second.checkValue(row.second());
+        first.set(index, row.first());
+        second.set(index, row.second());
+        return previous;
+    }
+
+    @Override
+    public boolean add(final Tuple<A, B> row) {
+        addRow(row.first(), row.second());
+        return true;
+    }
+
+    /**
+     * Appends a row without creating a {@link Tuple} for it.
+     */
+    public void addRow(final A a, final B b) {
+        first.checkValue(a);
+        second.checkValue(b);
+        first.add(a);
+        second.add(b);
+        rowAdded();
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their first component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortByFirst() {
+        sortByColumn(0);
+    }
+
+    /**
+     * Stably sorts the rows by their first component in the order of the given comparator.
+     */
+    public void sortByFirst(final Comparator<? super A> comparator) {
+        sortByColumn(first, comparator);
+    }
+
+    /**
+     * Stably sorts the rows by the natural order of their second component, primitive columns are compared without boxing.
+     *
+     * @throws ClassCastException if the column holds objects that are not Comparable
+     */
+    public void sortBySecond() {
+        sortByColumn(1);
+    }
+
+    /**
+     * Stably sorts the rows by their second component in the order of the given comparator.
+     */
+    public void sortBySecond(final Comparator<? super B> comparator) {
+        sortByColumn(second, comparator);
+    }
+}
@@ -0,0 +1,544 @@
+package pvlov.betterstandards.container.tuples;
+
+import pvlov.betterstandards.iterator.Enumerable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Stores fixed-layout rows of two to four primitive components outside of the Java heap, so that large tables of ids,
+ * timestamps and scores neither count towards the heap nor have to be scanned by the garbage collector. Every row
+ * occupies the same number of bytes, and every component is read and written in place through a VarHandle.
+ * <p>
+ * A store either lives in direct memory ({@link #allocate(int, Type...)}) or in a memory-mapped file
+ * ({@link #map(Path, int, Type...)}), which keeps its rows across restarts. In both cases {@link #close()} releases
+ * the memory immediately instead of waiting for the garbage collector. Any access after closing throws an
+ * IllegalStateException. A store is not thread-safe.
+ * <p>
+ * Since the stores are limited to what a single ByteBuffer can address, a store holds at most 2 GiB of rows.
+ */
+public final class TupleSegmentStore implements AutoCloseable {
+
+    public enum Type {
+        INT(Integer.BYTES), LONG(Long.BYTES), DOUBLE(Double.BYTES);
+
+        private final int bytes;
+
+        Type(final int bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ORDER);
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ORDER);
+    private static final VarHandle DOUBLE = MethodHandles.byteBufferViewVarHandle(double[].class, ORDER);
+
+    // header of mapped files: | magic | version | arity | 4 type ordinals | row count |
+    private static final long MAGIC = 0x5453_5354_4f52_4531L;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int SIZE_OFFSET = 24;
+    private static final Type[] TYPES = Type.values();
+
+    private final Type[] layout;
+    private final int[] offsets;
+    private final int rowBytes;
+    private final int base;
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+    private int capacity;
+    private int size;
+
+    private TupleSegmentStore(final Type[] layout, final FileChannel channel) {
+        if (layout.length < 2 || layout.length > 4) {
+            throw new IllegalArgumentException("A row must have between 2 and 4 components: " + layout.length);
+        }
+        this.layout = layout.clone();
+        this.offsets = new int[layout.length];
+        // longs and doubles first, so that every component is naturally aligned
+        int offset = 0;
+        for (final int width : new int[]{Long.BYTES, Integer.BYTES}) {
+            for (int i = 0; i < layout.length; ++i) {
+                if (layout[i].bytes == width) {
+                    offsets[i] = offset;
+                    offset += width;
+                }
+            }
+        }
+        this.rowBytes = (offset + Long.BYTES - 1) & -Long.BYTES;
+        this.base = channel == null ? 0 : HEADER_BYTES;
+        this.channel = channel;
+    }
+
+    /**
+     * @param initialCapacity the number of rows to allocate memory for, the store grows beyond it if needed
+     * @param layout          the types of the components of every row
+     * @return an empty store in direct memory
+     */
+    public static TupleSegmentStore allocate(final int initialCapacity, final Type... layout) {
+        final TupleSegmentStore store = new TupleSegmentStore(layout, null);
+        store.capacity = Math.max(1, initialCapacity);
+        store.buffer = ByteBuffer.allocateDirect(store.byteSize(store.capacity));
+        return store;
+    }
+
+    /**
+     * Opens a store backed by the given file, creating the file if it does not exist. Rows appended to the store are
+     * written to the file by the operating system, {@link #force()} does so right away. Reopening the file later
+     * restores all rows appended up to then.
+     *
+     * @param file            the file backing the store
+     * @param initialCapacity the number of rows to map initially, the mapping grows beyond it if needed
+     * @param layout          the types of the components of every row, must match the layout of an existing file
+     * @return a store containing the rows of the given file
+     * @throws UncheckedIOException     if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the file is no store or has a different layout
+     */
+    public static TupleSegmentStore map(final Path file, final int initialCapacity, final Type... layout) {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TupleSegmentStore store = null;
+        try {
+            store = new TupleSegmentStore(layout, channel);
+            final long existingBytes = channel.size();
+            // validated before mapping, since mapping grows the file to the mapped size
+            final int existingRows = existingBytes == 0 ? 0 : store.readHeader(existingBytes);
+            store.capacity = Math.max(Math.max(1, initialCapacity), existingRows);
+            store.buffer = store.mapFile(store.capacity);
+            if (existingBytes == 0) {
+                store.writeHeader();
+            } else {
+                store.size = existingRows;
+            }
+            return store;
+        } catch (final IOException | RuntimeException e) {
+            if (store != null && store.buffer != null) {
+                DirectMemory.free(store.buffer);
+            }
+            try {
+                channel.close();
+            } catch (final IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            if (e instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int arity() {
+        return layout.length;
+    }
+
+    public Type type(final int component) {
+        return layout[component];
+    }
+
+    /**
+     * Appends a row with all components set to zero.
+     *
+     * @return the index of the new row, to be filled with the setters
+     */
+    public int addRow() {
+        ensureCapacity(size + 1);
+        final ByteBuffer memory = buffer();
+        final int position = base + size * rowBytes;
+        for (int i = 0; i < rowBytes; i += Long.BYTES) {
+            LONG.set(memory, position + i, 0L);
+        }
+        setSize(size + 1);
+        return size - 1;
+    }
+
+    /**
+     * Appends a row holding the given Tuple, whose components are converted to the types of the layout.
+     *
+     * @return the index of the new row
+     */
+    public int add(final Tuple<? extends Number, ? extends Number> tuple) {
+        checkArity(2);
+        final int row = addRow();
+        set(row, 0, tuple.first());
+        set(row, 1, tuple.second());
+        return row;
+    }
+
+    public int add(final Triple<? extends Number, ? extends Number, ? extends Number> triple) {
+        checkArity(3);
+        final int row = addRow();
+        set(row, 0, triple.first());
+        set(row, 1, triple.second());
+        set(row, 2, triple.third());
+        return row;
+    }
+
+    public int add(final Quadruple<? extends Number, ? extends Number, ? extends Number, ? extends Number> quadruple) {
+        checkArity(4);
+        final int row = addRow();
+        set(row, 0, quadruple.first());
+        set(row, 1, quadruple.second());
+        set(row, 2, quadruple.third());
+        set(row, 3, quadruple.fourth());
+        return row;
+    }
+
+    public int getInt(final int row, final int component) {
+        return (int) INT.get(buffer(), position(row, checkType(component, Type.INT)));
+    }
+
+    public long getLong(final int row, final int component) {
+        return (long) LONG.get(buffer(), position(row, checkType(component, Type.LONG)));
+    }
+
+    public double getDouble(final int row, final int component) {
+        return (double) DOUBLE.get(buffer(), position(row, checkType(component, Type.DOUBLE)));
+    }
+
+    public void setInt(final int row, final int component, final int value) {
+        INT.set(buffer(), position(row, checkType(component, Type.INT)), value);
+    }
+
+    public void setLong(final int row, final int component, final long value) {
+        LONG.set(buffer(), position(row, checkType(component, Type.LONG)), value);
+    }
+
+    public void setDouble(final int row, final int component, final double value) {
+        DOUBLE.set(buffer(), position(row, checkType(component, Type.DOUBLE)), value);
+    }
+
+    /**
+     * @return the given component of the given row, boxed according to its type
+     */
+    public Number get(final int row, final int component) {
+        switch (layout[component]) {
+            case INT:
+                return getInt(row, component);
+            case LONG:
+                return getLong(row, component);
+            default:
+                return getDouble(row, component);
+        }
+    }
+
+    public Tuple<Number, Number> getTuple(final int row) {
+        checkArity(2);
+        return Tuple.of(get(row, 0), get(row, 1));
+    }
+
+    public Triple<Number, Number, Number> getTriple(final int row) {
+        checkArity(3);
+        return Triple.of(get(row, 0), get(row, 1), get(row, 2));
+    }
+
+    public Quadruple<Number, Number, Number, Number> getQuadruple(final int row) {
+        checkArity(4);
+        return Quadruple.of(get(row, 0), get(row, 1), get(row, 2), get(row, 3));
+    }
+
+    /**
+     * Appends rows of another store with the same layout by copying their memory in one go.
+     *
+     * @param source  the store to copy from
+     * @param fromRow the index of the first row to copy
+     * @param count   the number of rows to copy
+     * @throws IllegalArgumentException  if the layouts differ
+     * @throws IndexOutOfBoundsException if the source has no such rows
+     */
+    public void addAll(final TupleSegmentStore source, final int fromRow, final int count) {
+        if (!Arrays.equals(layout, source.layout)) {
+            throw new IllegalArgumentException("Cannot copy rows of layout " + Arrays.toString(source.layout) + " into " + Arrays.toString(layout));
+        }
+        if (fromRow < 0 || count < 0 || fromRow > source.size - count) {
+            throw new IndexOutOfBoundsException("Rows [" + fromRow + ", " + (fromRow + count) + ") out of bounds for size " + source.size);
+        }
+        ensureCapacity(size + count);
+        final ByteBuffer target = buffer().duplicate();
+        final ByteBuffer rows = source.buffer().duplicate();
+        rows.position(source.base + fromRow * rowBytes).limit(source.base + (fromRow + count) * rowBytes);
+        target.position(base + size * rowBytes);
+        target.put(rows);
+        setSize(size + count);
+    }
+
+    /**
+     * Returns an Enumerable over the rows of this store, each read by the given function from its row index, e.g.
+     * {@code store.view(store::getTuple)} or {@code store.view(row -> store.getLong(row, 0))}. The view covers the rows
+     * the store contains when this method is called and must not be used after the store is closed.
+     *
+     * @param reader reads a row by its index
+     * @return an Enumerable over the read rows, indexed by row
+     */
+    public <R> Enumerable<R> view(final IntFunction<? extends R> reader) {
+        final int rows = size;
+        return Enumerable.of(new RowList<R>(rows, reader));
+    }
+
+    /**
+     * Writes all changes of a mapped store to its file. Does nothing for a store in direct memory.
+     */
+    public void force() {
+        if (buffer() instanceof MappedByteBuffer mapped) {
+            mapped.force();
+        }
+    }
+
+    /**
+     * Releases the memory of this store, and for a mapped store unmaps and closes its file after writing all changes.
+     * Closing an already closed store does nothing.
+     */
+    @Override
+    public void close() {
+        if (buffer == null) {
+            return;
+        }
+        final ByteBuffer released = buffer;
+        if (released instanceof MappedByteBuffer mapped) {
+            mapped.force();
+        }
+        buffer = null;
+        DirectMemory.free(released);
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    private ByteBuffer buffer() {
+        final ByteBuffer memory = buffer;
+        if (memory == null) {
+            throw new IllegalStateException("The TupleSegmentStore is closed");
+        }
+        return memory;
+    }
+
+    private int position(final int row, final int component) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+        return base + row * rowBytes + offsets[component];
+    }
+
+    private int checkType(final int component, final Type expected) {
+        if (layout[component] != expected) {
+            throw new IllegalArgumentException("Component " + component + " is of type " + layout[component] + ", not " + expected);
+        }
+        return component;
+    }
+
+    private void checkArity(final int expected) {
+        if (layout.length != expected) {
+            throw new IllegalArgumentException("Rows have " + layout.length + " components, not " + expected);
+        }
+    }
+
+    private void set(final int row, final int component, final Number value) {
+        switch (layout[component]) {
+            case INT:
+                setInt(row, component, value.intValue());
+                break;
+            case LONG:
+                setLong(row, component, value.longValue());
+                break;
+            default:
+                setDouble(row, component, value.doubleValue());
+                break;
+        }
+    }
+
+    private int byteSize(final long rows) {
+        final long bytes = base + rows * rowBytes;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("A TupleSegmentStore cannot hold more than " + (Integer.MAX_VALUE - base) / rowBytes + " rows");
+        }
+        return (int) bytes;
+    }
+
+    private void ensureCapacity(final int rows) {
+        if (rows <= capacity) {
+            return;
+        }
+        final int maximumRows = (Integer.MAX_VALUE - base) / rowBytes;
+        if (rows > maximumRows || rows < 0) {
+            throw new IllegalStateException("A TupleSegmentStore cannot hold more than " + maximumRows + " rows");
+        }
+        final int grown = (int) Math.min(maximumRows, Math.max(rows, capacity * 2L));
+        final ByteBuffer previous = buffer();
+        if (channel != null) {
+            ((MappedByteBuffer) previous).force();
+            buffer = null;
+            DirectMemory.free(previous);
+            try {
+                buffer = mapFile(grown);
+            } catch (final IOException | RuntimeException e) {
+                // the store counts as closed without a buffer, so it must not keep the file open either
+                try {
+                    channel.close();
+                } catch (final IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                if (e instanceof IOException ioException) {
+                    throw new UncheckedIOException(ioException);
+                }
+                throw (RuntimeException) e;
+            }
+        } else {
+            final ByteBuffer next = ByteBuffer.allocateDirect(byteSize(grown));
+            next.put(previous.duplicate().clear().limit(byteSize(size)));
+            buffer = next;
+            DirectMemory.free(previous);
+        }
+        capacity = grown;
+    }
+
+    private ByteBuffer mapFile(final int rows) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, byteSize(rows));
+    }
+
+    private void setSize(final int newSize) {
+        size = newSize;
+        if (channel != null) {
+            LONG.set(buffer, SIZE_OFFSET, (long) newSize);
+        }
+    }
+
+    private void writeHeader() {
+        LONG.set(buffer, 0, MAGIC);
+        INT.set(buffer, 8, VERSION);
+        INT.set(buffer, 12, layout.length);
+        for (int i = 0; i < layout.length; ++i) {
+            buffer.put(16 + i, (byte) layout[i].ordinal());
+        }
+        LONG.set(buffer, SIZE_OFFSET, 0L);
+    }
+
+    /**
+     * Reads the header of an existing file through the channel, without mapping the file.
+     *
+     * @return the number of rows stored in the file
+     */
+    private int readHeader(final long existingBytes) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        if (header.hasRemaining() || (long) LONG.get(header, 0) != MAGIC || (int) INT.get(header, 8) != VERSION) {
+            throw new IllegalArgumentException("The file does not contain a TupleSegmentStore");
+        }
+        final int arity = (int) INT.get(header, 12);
+        if (arity < 2 || arity > 4) {
+            throw new IllegalArgumentException("The file has a corrupt header, its rows have " + arity + " components");
+        }
+        final Type[] stored = new Type[arity];
+        for (int i = 0; i < arity; ++i) {
+            final int ordinal = header.get(16 + i);
+            if (ordinal < 0 || ordinal >= TYPES.length) {
+                throw new IllegalArgumentException("The file has a corrupt header, component " + i + " has the unknown type " + ordinal);
+            }
+            stored[i] = TYPES[ordinal];
+        }
+        if (!Arrays.equals(stored, layout)) {
+            throw new IllegalArgumentException("The file stores rows of layout " + Arrays.toString(stored) + ", not " + Arrays.toString(layout));
+        }
+        final long rows = (long) LONG.get(header, SIZE_OFFSET);
+        if (rows < 0 || rows > (existingBytes - HEADER_BYTES) / rowBytes) {
+            throw new IllegalArgumentException("The file has a corrupt header, it claims " + rows + " rows in " + existingBytes + " bytes");
+        }
+        return (int) rows;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleSegmentStore(layout=" + Arrays.toString(layout) + ", size=" + size + (isClosed() ? ", closed" : "") + ")";
+    }
+
+    private final class RowList<R> extends AbstractList<R> implements RandomAccess {
+
+        private final int rows;
+        private final IntFunction<? extends R> reader;
+
+        private RowList(final int rows, final IntFunction<? extends R> reader) {
+            this.rows = rows;
+            this.reader = reader;
+        }
+
+        @Override
+        public R get(final int index) {
+            if (index < 0 || index >= rows) {
+                throw new IndexOutOfBoundsException("Row " + index + " out of bounds for size " + rows);
+            }
+            return reader.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return rows;
+        }
+    }
+
+    /**
+     * Frees direct and mapped buffers right away through {@code sun.misc.Unsafe#invokeCleaner}. Where that is not
+     * available, the memory is released once the garbage collector finds the buffer unreachable.
+     */
+    private static final class DirectMemory {
+
+        private static final MethodHandle INVOKE_CLEANER = lookupInvokeCleaner();
+
+        private static MethodHandle lookupInvokeCleaner() {
+            try {
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return MethodHandles.lookup()
+                        .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                        .bindTo(theUnsafe.get(null));
+            } catch (final ReflectiveOperationException | RuntimeException unavailable) {
+                return null;
+            }
+        }
+
+        private static void free(final ByteBuffer buffer) {
+            if (INVOKE_CLEANER == null) {
+                return;
+            }
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Could not free the memory of a TupleSegmentStore", e);
+            }
+        }
+    }
+}
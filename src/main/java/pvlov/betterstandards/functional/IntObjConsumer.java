@@ -0,0 +1,6 @@
+package pvlov.betterstandards.functional;
+
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+    void accept(final int index, final T value);
+}
@@ -0,0 +1,33 @@
+package pvlov.betterstandards.iterator;
+
+/**
+ * An allocation-free alternative to {@link Enumerator#next()}. Instead of returning a Tuple per element, a Cursor is
+ * moved forward with {@link #advance()} and exposes the current index as a primitive int alongside the current element.
+ * <pre>{@code
+ * final Cursor<String> cursor = enumerable.cursor();
+ * while (cursor.advance()) {
+ *     System.out.println(cursor.index() + ": " + cursor.value());
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the Elements
+ */
+public interface Cursor<T> {
+
+    /**
+     * Moves the cursor to the next element.
+     *
+     * @return true if the cursor now points at an element, false if there are no more elements
+     */
+    boolean advance();
+
+    /**
+     * @return the zero-based index of the current element. Only defined after {@link #advance()} returned true.
+     */
+    int index();
+
+    /**
+     * @return the current element. Only defined after {@link #advance()} returned true.
+     */
+    T value();
+}
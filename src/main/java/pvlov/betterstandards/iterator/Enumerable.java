@@ -1,8 +1,17 @@
 package pvlov.betterstandards.iterator;
 
 import pvlov.betterstandards.container.tuples.Tuple;
+import pvlov.betterstandards.functional.IntObjConsumer;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @FunctionalInterface
 public interface Enumerable<T> extends Iterable<Tuple<Integer, T>> {
@@ -10,8 +19,190 @@ public interface Enumerable<T> extends Iterable<Tuple<Integer, T>> {
         return () -> Enumerator.fromIterator(source.iterator());
     }
 
+    /**
+     * Enumerates the given List. If the List supports {@link RandomAccess}, it is enumerated by index, which also makes
+     * {@link #skip(int)}, {@link #range(int, int)} and {@link #reversed()} constant-time views on it.
+     * Such a view covers the elements the List contains when this method is called.
+     *
+     * @param source the List to enumerate
+     * @return an Enumerable over the List
+     */
+    static <T> Enumerable<T> of(final List<T> source) {
+        if (source instanceof RandomAccess) {
+            return new RandomAccessEnumerable.OfList<>(source, 0, source.size(), false);
+        }
+        return fromIterable(source);
+    }
+
+    static <T> Enumerable<T> of(final T[] source) {
+        return new RandomAccessEnumerable.OfArray<>(source, 0, source.length, false);
+    }
+
+    static Enumerable<Integer> of(final int[] source) {
+        return new RandomAccessEnumerable.OfIntArray(source, 0, source.length, false);
+    }
+
+    static Enumerable<Long> of(final long[] source) {
+        return new RandomAccessEnumerable.OfLongArray(source, 0, source.length, false);
+    }
+
+    static Enumerable<Double> of(final double[] source) {
+        return new RandomAccessEnumerable.OfDoubleArray(source, 0, source.length, false);
+    }
+
     Enumerator<T> enumerator();
 
+    /**
+     * @return a {@link Cursor} over the elements of this Enumerable, which is the allocation-free alternative to {@link #iterator()}
+     */
+    default Cursor<T> cursor() {
+        return enumerator().cursor();
+    }
+
+    /**
+     * Performs the given action with the index and the element for each element of this Enumerable.
+     *
+     * @param action the action to be performed
+     */
+    default void forEachIndexed(final IntObjConsumer<? super T> action) {
+        enumerator().forEachRemaining(action);
+    }
+
+    /**
+     * Lazily applies the given function to every element. The elements keep their original index.
+     * <p>
+     * Like all operators below, this does not create a Tuple per element: the stages are chained as {@link Cursor}s,
+     * and {@link #forEachIndexed(IntObjConsumer)} pushes the elements through all stages in the loop of the source.
+     *
+     * @param mapper the function to apply to every element
+     * @return an Enumerable over the mapped elements
+     */
+    default <R> Enumerable<R> map(final Function<? super T, ? extends R> mapper) {
+        return Enumerables.map(this, mapper);
+    }
+
+    /**
+     * Lazily keeps only the elements matching the given predicate. The elements keep their original index, use
+     * {@link #reindexed()} to number the remaining elements consecutively.
+     *
+     * @param predicate the predicate an element has to match to be kept
+     * @return an Enumerable over the matching elements
+     */
+    default Enumerable<T> filter(final Predicate<? super T> predicate) {
+        return Enumerables.filter(this, predicate);
+    }
+
+    /**
+     * Lazily replaces every element with the elements of the Iterable it is mapped to. All of them report the index
+     * of the element they were mapped from.
+     *
+     * @param mapper the function mapping every element to an Iterable
+     * @return an Enumerable over the elements of all mapped Iterables
+     */
+    default <R> Enumerable<R> flatMap(final Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return Enumerables.flatMap(this, mapper);
+    }
+
+    /**
+     * Stops at the first element that does not match the given predicate. The elements keep their original index.
+     *
+     * @param predicate the predicate the leading elements have to match
+     * @return an Enumerable over the longest prefix of matching elements
+     */
+    default Enumerable<T> takeWhile(final Predicate<? super T> predicate) {
+        return Enumerables.takeWhile(this, predicate);
+    }
+
+    /**
+     * Skips the leading elements matching the given predicate. The remaining elements keep their original index.
+     *
+     * @param predicate the predicate of the elements to skip
+     * @return an Enumerable starting at the first element that does not match
+     */
+    default Enumerable<T> dropWhile(final Predicate<? super T> predicate) {
+        return Enumerables.dropWhile(this, predicate);
+    }
+
+    /**
+     * Numbers the elements of this Enumerable consecutively from 0, instead of reporting their original index.
+     *
+     * @return an Enumerable over the same elements with new indices
+     */
+    default Enumerable<T> reindexed() {
+        return Enumerables.reindexed(this);
+    }
+
+    /**
+     * Restricts this Enumerable to its first n elements. The elements keep their original index.
+     *
+     * @param n the maximum number of elements
+     * @return an Enumerable over at most n elements
+     * @throws IllegalArgumentException if n is negative
+     */
+    default Enumerable<T> limit(final int n) {
+        return range(0, n);
+    }
+
+    /**
+     * Skips the first n elements of this Enumerable. The remaining elements keep their original index.
+     *
+     * @param n the number of elements to skip
+     * @return an Enumerable without the first n elements
+     * @throws IllegalArgumentException if n is negative
+     */
+    default Enumerable<T> skip(final int n) {
+        return range(n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Restricts this Enumerable to the elements at the positions {@code [fromPosition, toPosition)}, similar to
+     * {@link List#subList(int, int)} but without copying. The elements keep their original index.
+     *
+     * @param fromPosition the position of the first element, inclusive
+     * @param toPosition   the position of the last element, exclusive
+     * @return an Enumerable over the given range of elements
+     * @throws IllegalArgumentException if fromPosition is negative or toPosition is smaller than fromPosition
+     */
+    default Enumerable<T> range(final int fromPosition, final int toPosition) {
+        return Enumerables.range(this, fromPosition, toPosition);
+    }
+
+    /**
+     * Enumerates this Enumerable back to front. The elements keep their original index.
+     * Enumerables without random access have to buffer all elements first.
+     *
+     * @return an Enumerable over the elements in reverse order
+     */
+    default Enumerable<T> reversed() {
+        return Enumerables.reversed(this);
+    }
+
+    /**
+     * Returns a Spliterator over the enumerated elements. Index-based sources (see {@link #of(List)}) are SIZED and SUBSIZED
+     * and split by index range, so every split reports the correct index without any shared counter.
+     * Other sources split by buffering already enumerated elements.
+     *
+     * @return a Spliterator over the enumerated elements
+     */
+    @Override
+    default Spliterator<Tuple<Integer, T>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sequential Stream over the enumerated elements
+     */
+    default Stream<Tuple<Integer, T>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a possibly parallel Stream over the enumerated elements
+     */
+    default Stream<Tuple<Integer, T>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     default Iterable<T> intoIterable() {
         return () -> enumerator().intoIterator();
     }
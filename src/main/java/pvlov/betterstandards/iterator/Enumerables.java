@@ -0,0 +1,392 @@
+package pvlov.betterstandards.iterator;
+
+import pvlov.betterstandards.container.tuples.Tuple;
+import pvlov.betterstandards.functional.IntObjConsumer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The generic implementations of the {@link Enumerable} views, used for sources without random access, and of the
+ * lazy operators like {@link Enumerable#map(Function)}. Every operator is a {@link Cursor} on the cursor of its source,
+ * so a chain of operators is evaluated element by element in one loop without creating a Tuple per stage.
+ */
+final class Enumerables {
+
+    private Enumerables() {
+    }
+
+    static void checkRange(final int fromPosition, final int toPosition) {
+        if (fromPosition < 0 || toPosition < fromPosition) {
+            throw new IllegalArgumentException("Invalid range [" + fromPosition + ", " + toPosition + ")");
+        }
+    }
+
+    static <T> Enumerable<T> range(final Enumerable<T> source, final int fromPosition, final int toPosition) {
+        checkRange(fromPosition, toPosition);
+        return () -> new RangeEnumerator<>(source.enumerator(), fromPosition, toPosition);
+    }
+
+    static <T> Enumerable<T> reversed(final Enumerable<T> source) {
+        return () -> {
+            final List<Tuple<Integer, T>> buffer = new ArrayList<>();
+            source.iterator().forEachRemaining(buffer::add);
+            return new Enumerator<>() {
+                int position = buffer.size();
+
+                @Override
+                public boolean hasNext() {
+                    return position > 0;
+                }
+
+                @Override
+                public Tuple<Integer, T> next() throws NoSuchElementException {
+                    if (position == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    return buffer.get(--position);
+                }
+            };
+        };
+    }
+
+    static <T, R> Enumerable<R> map(final Enumerable<T> source, final Function<? super T, ? extends R> mapper) {
+        return new CursorEnumerable<>() {
+            @Override
+            public Cursor<R> cursor() {
+                final Cursor<T> upstream = source.cursor();
+                return new Cursor<>() {
+                    R value;
+
+                    @Override
+                    public boolean advance() {
+                        if (!upstream.advance()) {
+                            return false;
+                        }
+                        value = mapper.apply(upstream.value());
+                        return true;
+                    }
+
+                    @Override
+                    public int index() {
+                        return upstream.index();
+                    }
+
+                    @Override
+                    public R value() {
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public void forEachIndexed(final IntObjConsumer<? super R> action) {
+                source.forEachIndexed((index, value) -> action.accept(index, mapper.apply(value)));
+            }
+        };
+    }
+
+    static <T> Enumerable<T> filter(final Enumerable<T> source, final Predicate<? super T> predicate) {
+        return new CursorEnumerable<>() {
+            @Override
+            public Cursor<T> cursor() {
+                final Cursor<T> upstream = source.cursor();
+                return new ForwardingCursor<>(upstream) {
+                    @Override
+                    public boolean advance() {
+                        while (upstream.advance()) {
+                            if (predicate.test(upstream.value())) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                };
+            }
+
+            @Override
+            public void forEachIndexed(final IntObjConsumer<? super T> action) {
+                source.forEachIndexed((index, value) -> {
+                    if (predicate.test(value)) {
+                        action.accept(index, value);
+                    }
+                });
+            }
+        };
+    }
+
+    static <T, R> Enumerable<R> flatMap(final Enumerable<T> source,
+                                        final Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return new CursorEnumerable<>() {
+            @Override
+            public Cursor<R> cursor() {
+                final Cursor<T> upstream = source.cursor();
+                return new Cursor<>() {
+                    Iterator<? extends R> inner;
+                    int index;
+                    R value;
+
+                    @Override
+                    public boolean advance() {
+                        while (inner == null || !inner.hasNext()) {
+                            if (!upstream.advance()) {
+                                return false;
+                            }
+                            inner = mapper.apply(upstream.value()).iterator();
+                            index = upstream.index();
+                        }
+                        value = inner.next();
+                        return true;
+                    }
+
+                    @Override
+                    public int index() {
+                        return index;
+                    }
+
+                    @Override
+                    public R value() {
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public void forEachIndexed(final IntObjConsumer<? super R> action) {
+                source.forEachIndexed((index, value) -> {
+                    for (final R element : mapper.apply(value)) {
+                        action.accept(index, element);
+                    }
+                });
+            }
+        };
+    }
+
+    static <T> Enumerable<T> takeWhile(final Enumerable<T> source, final Predicate<? super T> predicate) {
+        return new CursorEnumerable<>() {
+            @Override
+            public Cursor<T> cursor() {
+                final Cursor<T> upstream = source.cursor();
+                return new ForwardingCursor<>(upstream) {
+                    boolean done;
+
+                    @Override
+                    public boolean advance() {
+                        if (done || !upstream.advance()) {
+                            return false;
+                        }
+                        if (!predicate.test(upstream.value())) {
+                            done = true;
+                            return false;
+                        }
+                        return true;
+                    }
+                };
+            }
+        };
+    }
+
+    static <T> Enumerable<T> dropWhile(final Enumerable<T> source, final Predicate<? super T> predicate) {
+        return new CursorEnumerable<>() {
+            @Override
+            public Cursor<T> cursor() {
+                final Cursor<T> upstream = source.cursor();
+                return new ForwardingCursor<>(upstream) {
+                    boolean dropping = true;
+
+                    @Override
+                    public boolean advance() {
+                        if (!dropping) {
+                            return upstream.advance();
+                        }
+                        dropping = false;
+                        while (upstream.advance()) {
+                            if (!predicate.test(upstream.value())) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                };
+            }
+        };
+    }
+
+    static <T> Enumerable<T> reindexed(final Enumerable<T> source) {
+        return new CursorEnumerable<>() {
+            @Override
+            public Cursor<T> cursor() {
+                final Cursor<T> upstream = source.cursor();
+                return new ForwardingCursor<>(upstream) {
+                    int index = -1;
+
+                    @Override
+                    public boolean advance() {
+                        if (!upstream.advance()) {
+                            return false;
+                        }
+                        ++index;
+                        return true;
+                    }
+
+                    @Override
+                    public int index() {
+                        return index;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * An Enumerable defined by its {@link Cursor}. The Enumerator and {@link #forEachIndexed(IntObjConsumer)} are
+     * derived from it, so only a consumer that asks for a Tuple gets one.
+     */
+    private abstract static class CursorEnumerable<T> implements Enumerable<T> {
+
+        @Override
+        public abstract Cursor<T> cursor();
+
+        @Override
+        public Enumerator<T> enumerator() {
+            return new CursorEnumerator<>(cursor());
+        }
+
+        @Override
+        public void forEachIndexed(final IntObjConsumer<? super T> action) {
+            final Cursor<T> cursor = cursor();
+            while (cursor.advance()) {
+                action.accept(cursor.index(), cursor.value());
+            }
+        }
+    }
+
+    private abstract static class ForwardingCursor<T> implements Cursor<T> {
+
+        private final Cursor<T> upstream;
+
+        private ForwardingCursor(final Cursor<T> upstream) {
+            this.upstream = upstream;
+        }
+
+        @Override
+        public int index() {
+            return upstream.index();
+        }
+
+        @Override
+        public T value() {
+            return upstream.value();
+        }
+    }
+
+    private static final class CursorEnumerator<T> implements Enumerator<T> {
+
+        private final Cursor<T> cursor;
+        // whether hasNext() already advanced the cursor onto an element that next() has not returned yet
+        private boolean advanced;
+        private boolean hasNext;
+
+        private CursorEnumerator(final Cursor<T> cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!advanced) {
+                hasNext = cursor.advance();
+                advanced = true;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Tuple<Integer, T> next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            advanced = false;
+            return Tuple.of(cursor.index(), cursor.value());
+        }
+
+        @Override
+        public Cursor<T> cursor() {
+            if (!advanced) {
+                return cursor;
+            }
+            advanced = false;
+            final boolean pending = hasNext;
+            return new ForwardingCursor<>(cursor) {
+                boolean first = true;
+
+                @Override
+                public boolean advance() {
+                    if (first) {
+                        first = false;
+                        return pending;
+                    }
+                    return pending && cursor.advance();
+                }
+            };
+        }
+    }
+
+    private static final class RangeEnumerator<T> implements Enumerator<T>, Cursor<T> {
+
+        private final Enumerator<T> source;
+        private final Cursor<T> cursor;
+        private int remaining;
+
+        private RangeEnumerator(final Enumerator<T> source, final int fromPosition, final int toPosition) {
+            this.source = source;
+            this.cursor = source.cursor();
+            int skipped = 0;
+            while (skipped < fromPosition && cursor.advance()) {
+                ++skipped;
+            }
+            this.remaining = toPosition - fromPosition;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && source.hasNext();
+        }
+
+        @Override
+        public Tuple<Integer, T> next() throws NoSuchElementException {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            --remaining;
+            return source.next();
+        }
+
+        @Override
+        public boolean advance() {
+            if (remaining <= 0 || !cursor.advance()) {
+                return false;
+            }
+            --remaining;
+            return true;
+        }
+
+        @Override
+        public int index() {
+            return cursor.index();
+        }
+
+        @Override
+        public T value() {
+            return cursor.value();
+        }
+
+        @Override
+        public Cursor<T> cursor() {
+            return this;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package pvlov.betterstandards.iterator;
 
 import pvlov.betterstandards.container.tuples.Tuple;
+import pvlov.betterstandards.functional.IntObjConsumer;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -15,24 +16,56 @@ public interface Enumerator<T> {
 
 
     static <T> Enumerator<T> fromIterator(final Iterator<T> source) {
-        return new Enumerator<>() {
-            int counter = 0;
+        return new IteratorEnumerator<>(source);
+    }
+
+    boolean hasNext();
+
+    Tuple<Integer, T> next() throws NoSuchElementException;
+
+    /**
+     * Returns a {@link Cursor} over the remaining elements of this Enumerator. Implementations backed by a concrete
+     * source return a cursor that does not allocate per element, the default falls back to {@link #next()}.
+     *
+     * @return a Cursor over the remaining elements
+     */
+    default Cursor<T> cursor() {
+        return new Cursor<>() {
+            Tuple<Integer, T> current;
 
             @Override
-            public boolean hasNext() {
-                return source.hasNext();
+            public boolean advance() {
+                if (!hasNext()) {
+                    return false;
+                }
+                current = next();
+                return true;
+            }
+
+            @Override
+            public int index() {
+                return current.first();
             }
 
             @Override
-            public Tuple<Integer, T> next() throws NoSuchElementException {
-                return new Tuple<>(counter++, source.next());
+            public T value() {
+                return current.second();
             }
         };
     }
 
-    boolean hasNext();
-
-    Tuple<Integer, T> next() throws NoSuchElementException;
+    /**
+     * Performs the given action with the index and the element for each remaining element, without creating a Tuple
+     * per element where the implementation allows it.
+     *
+     * @param action the action to be performed
+     */
+    default void forEachRemaining(final IntObjConsumer<? super T> action) {
+        final Cursor<T> cursor = cursor();
+        while (cursor.advance()) {
+            action.accept(cursor.index(), cursor.value());
+        }
+    }
 
     default Iterator<T> intoIterator() {
         return new Iterator<>() {
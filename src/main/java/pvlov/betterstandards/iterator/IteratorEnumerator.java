@@ -0,0 +1,65 @@
+package pvlov.betterstandards.iterator;
+
+import pvlov.betterstandards.container.tuples.Tuple;
+import pvlov.betterstandards.functional.IntObjConsumer;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Enumerates an Iterator. The enumerator is its own {@link Cursor}, so {@link #next()} and {@link #advance()}
+ * move the same position.
+ */
+final class IteratorEnumerator<T> implements Enumerator<T>, Cursor<T> {
+
+    private final Iterator<T> source;
+    private int index = -1;
+    private T value;
+
+    IteratorEnumerator(final Iterator<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public Tuple<Integer, T> next() throws NoSuchElementException {
+        value = source.next();
+        return new Tuple<>(++index, value);
+    }
+
+    @Override
+    public boolean advance() {
+        if (!source.hasNext()) {
+            return false;
+        }
+        value = source.next();
+        ++index;
+        return true;
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public T value() {
+        return value;
+    }
+
+    @Override
+    public Cursor<T> cursor() {
+        return this;
+    }
+
+    @Override
+    public void forEachRemaining(final IntObjConsumer<? super T> action) {
+        while (source.hasNext()) {
+            action.accept(++index, value = source.next());
+        }
+    }
+}
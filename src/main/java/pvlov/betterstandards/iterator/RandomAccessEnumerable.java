@@ -0,0 +1,289 @@
+package pvlov.betterstandards.iterator;
+
+import pvlov.betterstandards.container.tuples.Tuple;
+import pvlov.betterstandards.functional.IntObjConsumer;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An Enumerable over a source with constant-time indexed access. It enumerates the source indices
+ * {@code [from, to)}, optionally in reverse, by index rather than through an Iterator, so {@link #skip(int)},
+ * {@link #range(int, int)} and {@link #reversed()} only create a new view on the same source.
+ * The reported indices are always the indices into the source.
+ *
+ * @param <T> the type of the Elements
+ */
+abstract class RandomAccessEnumerable<T> implements Enumerable<T> {
+
+    final int from;
+    final int to;
+    final boolean reversed;
+
+    RandomAccessEnumerable(final int from, final int to, final boolean reversed) {
+        this.from = from;
+        this.to = to;
+        this.reversed = reversed;
+    }
+
+    abstract T get(final int index);
+
+    abstract RandomAccessEnumerable<T> view(final int from, final int to, final boolean reversed);
+
+    final int size() {
+        return to - from;
+    }
+
+    @Override
+    public Enumerator<T> enumerator() {
+        return new IndexEnumerator();
+    }
+
+    @Override
+    public Cursor<T> cursor() {
+        return new IndexEnumerator();
+    }
+
+    @Override
+    public void forEachIndexed(final IntObjConsumer<? super T> action) {
+        if (reversed) {
+            for (int i = to - 1; i >= from; --i) {
+                action.accept(i, get(i));
+            }
+        } else {
+            for (int i = from; i < to; ++i) {
+                action.accept(i, get(i));
+            }
+        }
+    }
+
+    @Override
+    public Enumerable<T> range(final int fromPosition, final int toPosition) {
+        Enumerables.checkRange(fromPosition, toPosition);
+        final int start = Math.min(fromPosition, size());
+        final int end = Math.min(toPosition, size());
+        return reversed ? view(to - end, to - start, true) : view(from + start, from + end, false);
+    }
+
+    @Override
+    public Enumerable<T> reversed() {
+        return view(from, to, !reversed);
+    }
+
+    @Override
+    public Spliterator<Tuple<Integer, T>> spliterator() {
+        return new IndexSpliterator(from, to);
+    }
+
+    /**
+     * Splits the remaining source indices {@code [lo, hi)} in half. The prefix in encounter order is handed off,
+     * which is the lower half of the indices, or the upper half when enumerating in reverse.
+     */
+    private final class IndexSpliterator implements Spliterator<Tuple<Integer, T>> {
+
+        private int lo;
+        private int hi;
+
+        private IndexSpliterator(final int lo, final int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Tuple<Integer, T>> action) {
+            if (lo >= hi) {
+                return false;
+            }
+            final int index = reversed ? --hi : lo++;
+            action.accept(new Tuple<>(index, get(index)));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Tuple<Integer, T>> action) {
+            final int start = lo;
+            final int end = hi;
+            lo = hi;
+            if (reversed) {
+                for (int i = end - 1; i >= start; --i) {
+                    action.accept(new Tuple<>(i, get(i)));
+                }
+            } else {
+                for (int i = start; i < end; ++i) {
+                    action.accept(new Tuple<>(i, get(i)));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Tuple<Integer, T>> trySplit() {
+            final int mid = (lo + hi) >>> 1;
+            if (mid <= lo) {
+                return null;
+            }
+            if (reversed) {
+                final IndexSpliterator prefix = new IndexSpliterator(mid, hi);
+                hi = mid;
+                return prefix;
+            }
+            final IndexSpliterator prefix = new IndexSpliterator(lo, mid);
+            lo = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return hi - lo;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+
+    private final class IndexEnumerator implements Enumerator<T>, Cursor<T> {
+
+        private int next = reversed ? to - 1 : from;
+        private int index = -1;
+
+        @Override
+        public boolean hasNext() {
+            return reversed ? next >= from : next < to;
+        }
+
+        @Override
+        public Tuple<Integer, T> next() throws NoSuchElementException {
+            if (!advance()) {
+                throw new NoSuchElementException();
+            }
+            return new Tuple<>(index, get(index));
+        }
+
+        @Override
+        public boolean advance() {
+            if (!hasNext()) {
+                return false;
+            }
+            index = reversed ? next-- : next++;
+            return true;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public T value() {
+            return get(index);
+        }
+
+        @Override
+        public Cursor<T> cursor() {
+            return this;
+        }
+    }
+
+    static final class OfList<T> extends RandomAccessEnumerable<T> {
+
+        private final List<T> source;
+
+        OfList(final List<T> source, final int from, final int to, final boolean reversed) {
+            super(from, to, reversed);
+            this.source = source;
+        }
+
+        @Override
+        T get(final int index) {
+            return source.get(index);
+        }
+
+        @Override
+        RandomAccessEnumerable<T> view(final int from, final int to, final boolean reversed) {
+            return new OfList<>(source, from, to, reversed);
+        }
+    }
+
+    static final class OfArray<T> extends RandomAccessEnumerable<T> {
+
+        private final T[] source;
+
+        OfArray(final T[] source, final int from, final int to, final boolean reversed) {
+            super(from, to, reversed);
+            this.source = source;
+        }
+
+        @Override
+        T get(final int index) {
+            return source[index];
+        }
+
+        @Override
+        RandomAccessEnumerable<T> view(final int from, final int to, final boolean reversed) {
+            return new OfArray<>(source, from, to, reversed);
+        }
+    }
+
+    static final class OfIntArray extends RandomAccessEnumerable<Integer> {
+
+        private final int[] source;
+
+        OfIntArray(final int[] source, final int from, final int to, final boolean reversed) {
+            super(from, to, reversed);
+            this.source = source;
+        }
+
+        @Override
+        Integer get(final int index) {
+            return source[index];
+        }
+
+        @Override
+        RandomAccessEnumerable<Integer> view(final int from, final int to, final boolean reversed) {
+            return new OfIntArray(source, from, to, reversed);
+        }
+    }
+
+    static final class OfLongArray extends RandomAccessEnumerable<Long> {
+
+        private final long[] source;
+
+        OfLongArray(final long[] source, final int from, final int to, final boolean reversed) {
+            super(from, to, reversed);
+            this.source = source;
+        }
+
+        @Override
+        Long get(final int index) {
+            return source[index];
+        }
+
+        @Override
+        RandomAccessEnumerable<Long> view(final int from, final int to, final boolean reversed) {
+            return new OfLongArray(source, from, to, reversed);
+        }
+    }
+
+    static final class OfDoubleArray extends RandomAccessEnumerable<Double> {
+
+        private final double[] source;
+
+        OfDoubleArray(final double[] source, final int from, final int to, final boolean reversed) {
+            super(from, to, reversed);
+            this.source = source;
+        }
+
+        @Override
+        Double get(final int index) {
+            return source[index];
+        }
+
+        @Override
+        RandomAccessEnumerable<Double> view(final int from, final int to, final boolean reversed) {
+            return new OfDoubleArray(source, from, to, reversed);
+        }
+    }
+}
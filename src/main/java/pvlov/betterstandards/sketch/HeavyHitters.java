@@ -0,0 +1,173 @@
+package pvlov.betterstandards.sketch;
+
+import pvlov.betterstandards.container.tuples.Tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the most frequent values of a stream with at most {@code capacity} counters, using the Misra-Gries summary.
+ * Every value occurring more than {@code n / (capacity + 1)} times in a stream of length n is guaranteed to be
+ * retained, and every estimated count is at most {@link #maximumError()} lower than the true count.
+ *
+ * @param <T> the type of the counted values
+ */
+public final class HeavyHitters<T> implements Sketch<T, HeavyHitters<T>> {
+
+    private final int capacity;
+    private final Map<T, Counter> counters;
+    private long count;
+
+    /**
+     * @param capacity the maximum number of counters, at least 1
+     */
+    public HeavyHitters(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    @Override
+    public void add(final T value) {
+        add(value, 1);
+    }
+
+    /**
+     * Adds the given value {@code times} times at once.
+     */
+    public void add(final T value, final long times) {
+        if (times < 0) {
+            throw new IllegalArgumentException("Cannot add a value a negative number of times: " + times);
+        }
+        count += times;
+        final Counter counter = counters.get(value);
+        if (counter != null) {
+            counter.value += times;
+            return;
+        }
+        counters.put(value, new Counter(times));
+        if (counters.size() > capacity) {
+            decrementAll();
+        }
+    }
+
+    @Override
+    public HeavyHitters<T> merge(final HeavyHitters<T> other) {
+        for (final Map.Entry<T, Counter> entry : other.counters.entrySet()) {
+            counters.computeIfAbsent(entry.getKey(), ignored -> new Counter(0)).value += entry.getValue().value;
+        }
+        count += other.count;
+        if (counters.size() > capacity) {
+            shrink();
+        }
+        return this;
+    }
+
+    /**
+     * The classic "decrement all counters" step for exactly {@code capacity + 1} counters: subtracts the smallest count
+     * from every counter and drops the counters that reach zero, in a single pass without allocating.
+     */
+    private void decrementAll() {
+        long minimum = Long.MAX_VALUE;
+        for (final Counter counter : counters.values()) {
+            minimum = Math.min(minimum, counter.value);
+        }
+        final Iterator<Counter> iterator = counters.values().iterator();
+        while (iterator.hasNext()) {
+            final Counter counter = iterator.next();
+            counter.value -= minimum;
+            if (counter.value <= 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Subtracts the (capacity + 1)-th largest count from every counter and drops the counters that are not positive
+     * anymore, which leaves at most {@code capacity} counters. Only needed when a merge adds many counters at once.
+     */
+    private void shrink() {
+        final long[] values = new long[counters.size()];
+        int i = 0;
+        for (final Counter counter : counters.values()) {
+            values[i++] = counter.value;
+        }
+        Arrays.sort(values);
+        final long threshold = values[values.length - capacity - 1];
+        final Iterator<Counter> iterator = counters.values().iterator();
+        while (iterator.hasNext()) {
+            final Counter counter = iterator.next();
+            counter.value -= threshold;
+            if (counter.value <= 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @param value the value to look up
+     * @return a lower bound of the number of times the given value was added, which is at most
+     * {@link #maximumError()} below the true count
+     */
+    public long estimate(final T value) {
+        final Counter counter = counters.get(value);
+        return counter == null ? 0 : counter.value;
+    }
+
+    /**
+     * @param k the maximum number of values to return
+     * @return the at most k values with the highest estimated counts together with these counts, most frequent first
+     */
+    public List<Tuple<T, Long>> topK(final int k) {
+        final List<Map.Entry<T, Counter>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<T, Counter> entry) -> entry.getValue().value).reversed());
+        final List<Tuple<T, Long>> top = new ArrayList<>(Math.min(k, entries.size()));
+        for (final Map.Entry<T, Counter> entry : entries.subList(0, Math.min(k, entries.size()))) {
+            top.add(Tuple.of(entry.getKey(), entry.getValue().value));
+        }
+        return top;
+    }
+
+    /**
+     * @return the maximum amount by which any estimated count can be lower than the true count
+     */
+    public long maximumError() {
+        long retained = 0;
+        for (final Counter counter : counters.values()) {
+            retained += counter.value;
+        }
+        return (count - retained) / (capacity + 1);
+    }
+
+    /**
+     * @return the number of values added so far
+     */
+    public long count() {
+        return count;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHitters(capacity=" + capacity + ", count=" + count + ", top=" + topK(Math.min(capacity, 10)) + ")";
+    }
+
+    private static final class Counter {
+
+        private long value;
+
+        private Counter(final long value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package pvlov.betterstandards.sketch;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * Estimates quantiles and ranks of a stream of doubles in O(k log(n / k)) memory, following Karnin, Lang and Liberty's
+ * "Optimal Quantile Approximation in Streams" (KLL). Values are kept in a hierarchy of compactors, where a value on
+ * level h stands for 2^h values of the stream. Whenever a level is full, it is sorted and every other value is promoted
+ * to the next level. The rank error is roughly {@code 1.65 / k} of the stream length with high probability.
+ * <p>
+ * NaN values are ignored.
+ */
+public final class KllSketch implements Sketch<Double, KllSketch> {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int retained;
+    private int maxRetained;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private long randomState = 0x9E3779B97F4A7C15L;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k controls the accuracy and the size of the sketch, at least 8
+     */
+    public KllSketch(final int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8: " + k);
+        }
+        this.k = k;
+        levels[0] = new double[capacity(0)];
+        maxRetained = capacity(0);
+    }
+
+    @Override
+    public void add(final Double value) {
+        add(value.doubleValue());
+    }
+
+    public void add(final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (count++ == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        append(0, value);
+        ++retained;
+        if (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    public KllSketch addAll(final double[] values) {
+        for (final double value : values) {
+            add(value);
+        }
+        return this;
+    }
+
+    public KllSketch addAll(final DoubleStream values) {
+        values.forEachOrdered(this::add);
+        return this;
+    }
+
+    @Override
+    public KllSketch merge(final KllSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge KllSketches with k " + k + " and " + other.k);
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        // copied up front so that a sketch can be merged with itself
+        final int[] otherSizes = other.sizes.clone();
+        final int otherRetained = other.retained;
+        final long otherCount = other.count;
+        while (levels.length < otherSizes.length) {
+            grow();
+        }
+        for (int h = 0; h < otherSizes.length; ++h) {
+            for (int i = 0; i < otherSizes[h]; ++i) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        retained += otherRetained;
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += otherCount;
+        while (retained >= maxRetained) {
+            compress();
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of values added so far
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the exact minimum, or NaN if the sketch is empty
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the exact maximum, or NaN if the sketch is empty
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * @param fraction the normalized rank between 0 and 1, e.g. 0.5 for the median or 0.99 for the 99th percentile
+     * @return an approximation of the value with the given normalized rank, or NaN if the sketch is empty
+     */
+    public double quantile(final double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1: " + fraction);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (fraction == 0) {
+            return min;
+        }
+        if (fraction == 1) {
+            return max;
+        }
+        final double[] values = new double[retained];
+        final long[] weights = new long[retained];
+        sortedWeighted(values, weights);
+        final double target = fraction * count;
+        long cumulative = 0;
+        for (int i = 0; i < values.length; ++i) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param value the value to rank
+     * @return an approximation of the fraction of added values that are smaller than or equal to the given value
+     */
+    public double rank(final double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = 0;
+        for (int h = 0; h < levels.length; ++h) {
+            for (int i = 0; i < sizes[h]; ++i) {
+                if (levels[h][i] <= value) {
+                    rank += 1L << h;
+                }
+            }
+        }
+        return (double) rank / count;
+    }
+
+    /**
+     * Fills the given arrays with all retained values in ascending order and their weights, by sorting every level
+     * on its own and merging them one after another.
+     */
+    private void sortedWeighted(final double[] values, final long[] weights) {
+        final double[] mergedValues = new double[values.length];
+        final long[] mergedWeights = new long[weights.length];
+        int n = 0;
+        for (int h = 0; h < levels.length; ++h) {
+            final int size = sizes[h];
+            final double[] level = Arrays.copyOf(levels[h], size);
+            Arrays.sort(level);
+            int i = 0;
+            int j = 0;
+            int out = 0;
+            while (i < n || j < size) {
+                if (j == size || (i < n && values[i] <= level[j])) {
+                    mergedValues[out] = values[i];
+                    mergedWeights[out++] = weights[i++];
+                } else {
+                    mergedValues[out] = level[j++];
+                    mergedWeights[out++] = 1L << h;
+                }
+            }
+            n = out;
+            System.arraycopy(mergedValues, 0, values, 0, n);
+            System.arraycopy(mergedWeights, 0, weights, 0, n);
+        }
+    }
+
+    private int capacity(final int level) {
+        final int height = levels.length - level - 1;
+        return Math.max(2, (int) Math.ceil(Math.pow(CAPACITY_DECAY, height) * k)) + 1;
+    }
+
+    private void append(final int level, final double value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(4, levels[level].length * 2));
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private void grow() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        levels[levels.length - 1] = new double[4];
+        maxRetained = 0;
+        for (int h = 0; h < levels.length; ++h) {
+            maxRetained += capacity(h);
+        }
+    }
+
+    /**
+     * Compacts the lowest full level: sorts it and promotes every other value, starting at a random offset,
+     * to the next level. At most one value stays behind.
+     */
+    private void compress() {
+        for (int h = 0; h < levels.length; ++h) {
+            if (sizes[h] >= capacity(h)) {
+                if (h + 1 == levels.length) {
+                    grow();
+                }
+                final double[] level = levels[h];
+                final int size = sizes[h];
+                Arrays.sort(level, 0, size);
+                final int pairs = size / 2;
+                final int offset = nextBit();
+                for (int i = 0; i < pairs; ++i) {
+                    append(h + 1, level[2 * i + offset]);
+                }
+                if (size % 2 == 1) {
+                    level[0] = level[size - 1];
+                    sizes[h] = 1;
+                } else {
+                    sizes[h] = 0;
+                }
+                retained -= pairs;
+                return;
+            }
+        }
+    }
+
+    private int nextBit() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (randomState >>> 63);
+    }
+
+    @Override
+    public String toString() {
+        return "KllSketch(k=" + k + ", count=" + count + ", retained=" + retained + ")";
+    }
+}
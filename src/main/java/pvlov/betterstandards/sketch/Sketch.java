@@ -0,0 +1,60 @@
+package pvlov.betterstandards.sketch;
+
+import pvlov.betterstandards.iterator.Enumerable;
+
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A fixed-memory summary of an unbounded stream of values. Sketches are not thread-safe; to summarize in parallel,
+ * feed one sketch per worker and {@link #merge(Sketch)} them, which is what {@link #collector(Supplier)} does
+ * for parallel Streams.
+ *
+ * @param <T> the type of the summarized values
+ * @param <S> the type of the sketch itself
+ */
+public interface Sketch<T, S extends Sketch<T, S>> {
+
+    /**
+     * @param factory creates an empty sketch, all sketches created by it must be mergeable with each other
+     * @return a Collector feeding the elements of a (possibly parallel) Stream into sketches and merging them
+     */
+    static <T, S extends Sketch<? super T, S>> Collector<T, S, S> collector(final Supplier<S> factory) {
+        return Collector.of(factory, Sketch::add, Sketch::merge, Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    void add(final T value);
+
+    /**
+     * Merges the other sketch into this one. Afterwards this sketch summarizes the values of both.
+     *
+     * @param other the sketch to merge, it is not modified
+     * @return this sketch
+     * @throws IllegalArgumentException if the sketches were created with incompatible parameters
+     */
+    S merge(final S other);
+
+    @SuppressWarnings("unchecked")
+    default S addAll(final Iterable<? extends T> values) {
+        for (final T value : values) {
+            add(value);
+        }
+        return (S) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    default S addAll(final Enumerable<? extends T> values) {
+        values.forEachIndexed((index, value) -> add(value));
+        return (S) this;
+    }
+
+    /**
+     * Feeds all elements of the Stream into this sketch, one at a time. Use {@link #collector(Supplier)} to make use of a parallel Stream.
+     */
+    @SuppressWarnings("unchecked")
+    default S addAll(final Stream<? extends T> values) {
+        values.forEachOrdered(this::add);
+        return (S) this;
+    }
+}
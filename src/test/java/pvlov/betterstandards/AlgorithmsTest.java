@@ -0,0 +1,101 @@
+package pvlov.betterstandards;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlgorithmsTest {
+
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Test
+    void nthElementSelectsAndPartitions() {
+        final Random random = new Random(42);
+        for (final int bound : new int[]{10, 1_000_000}) {
+            final List<Integer> values = randomList(random, 1_000, bound);
+            final List<Integer> sorted = new ArrayList<>(values);
+            sorted.sort(ORDER);
+            for (final int n : new int[]{0, 1, 499, 998, 999}) {
+                final List<Integer> selected = new ArrayList<>(values);
+                assertEquals(sorted.get(n), Algorithms.nthElement(ORDER, selected, n));
+                assertPartitioned(selected, n);
+            }
+        }
+    }
+
+    @Test
+    void nthElementHandlesSortedAndEqualInput() {
+        final List<Integer> ascending = new ArrayList<>();
+        final List<Integer> equal = new ArrayList<>();
+        for (int i = 0; i < 10_000; ++i) {
+            ascending.add(i);
+            equal.add(7);
+        }
+        assertEquals(5_000, Algorithms.nthElement(ORDER, ascending, 5_000));
+        assertEquals(9_999, Algorithms.nthElement(ORDER.reversed(), ascending, 0));
+        assertEquals(7, Algorithms.nthElement(ORDER, equal, 1_234));
+    }
+
+    @Test
+    void nthElementReordersListsWithoutRandomAccess() {
+        final List<Integer> values = randomList(new Random(7), 10_000, 100_000);
+        final List<Integer> sorted = new ArrayList<>(values);
+        sorted.sort(ORDER);
+        final LinkedList<Integer> linked = new LinkedList<>(values);
+
+        assertEquals(sorted.get(4_321), Algorithms.nthElement(ORDER, linked, 4_321));
+        assertEquals(values.size(), linked.size());
+        assertPartitioned(linked, 4_321);
+    }
+
+    @Test
+    void nthElementRejectsInvalidIndices() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Algorithms.nthElement(ORDER, new ArrayList<>(List.of(1, 2)), 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Algorithms.nthElement(ORDER, new ArrayList<Integer>(), 0));
+    }
+
+    @Test
+    void topKReturnsTheLargestElementsInOrder() {
+        final List<Integer> values = randomList(new Random(1), 1_000, 1_000_000);
+        final List<Integer> ascending = new ArrayList<>(values);
+        ascending.sort(ORDER);
+        final List<Integer> descending = new ArrayList<>(values);
+        descending.sort(ORDER.reversed());
+
+        assertEquals(descending.subList(0, 10), Algorithms.topK(ORDER, values, 10));
+        assertEquals(ascending.subList(0, 10), Algorithms.bottomK(ORDER, values, 10));
+        assertEquals(List.of(), Algorithms.topK(ORDER, values, 0));
+        assertThrows(IllegalArgumentException.class, () -> Algorithms.topK(ORDER, values, -1));
+    }
+
+    @Test
+    void topKAcceptsAKLargerThanTheInput() {
+        assertEquals(List.of(3, 2, 1), Algorithms.topK(ORDER, List.of(3, 1, 2), Integer.MAX_VALUE));
+        assertEquals(List.of(1, 2, 3), Algorithms.bottomK(ORDER, new Integer[]{3, 1, 2}, Integer.MAX_VALUE));
+        assertEquals(List.of(2, 1), Algorithms.topK(ORDER, () -> List.of(1, 2).iterator(), Integer.MAX_VALUE));
+    }
+
+    private static List<Integer> randomList(final Random random, final int size, final int bound) {
+        final List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(random.nextInt(bound));
+        }
+        return values;
+    }
+
+    private static void assertPartitioned(final List<Integer> values, final int n) {
+        final int nth = values.get(n);
+        for (int i = 0; i < values.size(); ++i) {
+            final int order = Integer.compare(values.get(i), nth);
+            assertTrue(i < n ? order <= 0 : i == n || order >= 0, "Element " + i + " is on the wrong side of " + n);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package pvlov.betterstandards;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParseTest {
+
+    @Test
+    void parseIntAcceptsWhatIntegerParseIntAccepts() {
+        for (final String input : new String[]{"0", "-0", "+7", "42", "-42", "007", "2147483647", "-2147483648"}) {
+            assertEquals(OptionalInt.of(Integer.parseInt(input)), Parse.parseInt(input).ok(), input);
+        }
+        assertEquals(OptionalInt.of(255), Parse.parseInt("ff", 0, 2, 16).ok());
+        assertEquals(OptionalInt.of(-5), Parse.parseInt("-101", 0, 4, 2).ok());
+    }
+
+    @Test
+    void parseIntRejectsInvalidInput() {
+        assertEquals(Optional.of(ParseError.EMPTY), Parse.parseInt("").err());
+        assertEquals(Optional.of(ParseError.INVALID_FORMAT), Parse.parseInt("-").err());
+        assertEquals(Optional.of(ParseError.INVALID_CHARACTER), Parse.parseInt("12a").err());
+        assertEquals(Optional.of(ParseError.INVALID_CHARACTER), Parse.parseInt(" 1").err());
+        assertEquals(Optional.of(ParseError.OVERFLOW), Parse.parseInt("2147483648").err());
+        assertEquals(Optional.of(ParseError.OVERFLOW), Parse.parseInt("-2147483649").err());
+        assertEquals(Optional.of(ParseError.INVALID_CHARACTER), Parse.parseInt("2", 0, 1, 2).err());
+    }
+
+    @Test
+    void parseIntReadsOnlyTheGivenRegion() {
+        assertEquals(OptionalInt.of(123), Parse.parseInt("id=123;", 3, 3).ok());
+        assertThrows(IndexOutOfBoundsException.class, () -> Parse.parseInt("123", 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> Parse.parseInt("1", 0, 1, 1));
+    }
+
+    @Test
+    void parseLongHandlesTheFullRange() {
+        assertEquals(OptionalLong.of(Long.MAX_VALUE), Parse.parseLong("9223372036854775807").ok());
+        assertEquals(OptionalLong.of(Long.MIN_VALUE), Parse.parseLong("-9223372036854775808").ok());
+        assertEquals(Optional.of(ParseError.OVERFLOW), Parse.parseLong("9223372036854775808").err());
+        assertEquals(Optional.of(ParseError.INVALID_FORMAT), Parse.parseLong("+").err());
+    }
+
+    @Test
+    void parseDoubleMatchesDoubleParseDouble() {
+        for (final String input : new String[]{"0", "-0.0", "1", "3.14", ".5", "5.", "1e10", "1E-5", "-2.5e+3",
+                "123456789012345678901234567890", "4.9e-324", "1.7976931348623157e308", "0.1", "2.2250738585072014E-308", "NaN", "-Infinity"}) {
+            assertEquals(OptionalDouble.of(Double.parseDouble(input)), Parse.parseDouble(input).ok(), input);
+        }
+    }
+
+    @Test
+    void parseDoubleRejectsInvalidInput() {
+        assertEquals(Optional.of(ParseError.EMPTY), Parse.parseDouble("").err());
+        assertEquals(Optional.of(ParseError.INVALID_FORMAT), Parse.parseDouble("-").err());
+        assertEquals(Optional.of(ParseError.INVALID_FORMAT), Parse.parseDouble("1e").err());
+        assertEquals(Optional.of(ParseError.INVALID_FORMAT), Parse.parseDouble(".").err());
+        assertEquals(Optional.of(ParseError.INVALID_CHARACTER), Parse.parseDouble("1.5x").err());
+        assertEquals(Optional.of(ParseError.INVALID_CHARACTER), Parse.parseDouble(" 1.5").err());
+    }
+
+    @Test
+    void parseBooleanAcceptsOnlyTrueAndFalse() {
+        assertEquals(Optional.of(true), Parse.parseBoolean("TRUE").ok());
+        assertEquals(Optional.of(false), Parse.parseBoolean("false").ok());
+        assertEquals(Optional.of(ParseError.UNKNOWN_NAME), Parse.parseBoolean("yes").err());
+        assertEquals(Optional.of(ParseError.EMPTY), Parse.parseBoolean("").err());
+    }
+
+    @Test
+    void parseUuidAcceptsTheCanonicalForm() {
+        final UUID uuid = UUID.randomUUID();
+        assertEquals(Optional.of(uuid), Parse.parseUuid(uuid.toString()).ok());
+        assertEquals(Optional.of(uuid), Parse.parseUuid(uuid.toString().toUpperCase()).ok());
+        assertEquals(Optional.of(ParseError.INVALID_FORMAT), Parse.parseUuid("1-2-3-4-5").err());
+        assertEquals(Optional.of(ParseError.INVALID_CHARACTER), Parse.parseUuid(uuid.toString().replace('-', '_')).err());
+    }
+
+    @Test
+    void parseEnumMatchesExactNames() {
+        assertEquals(Optional.of(TimeUnit.SECONDS), Parse.parseEnum(TimeUnit.class, "SECONDS").ok());
+        assertEquals(Optional.of(ParseError.UNKNOWN_NAME), Parse.parseEnum(TimeUnit.class, "seconds").err());
+        assertEquals(Optional.of(ParseError.EMPTY), Parse.parseEnum(TimeUnit.class, "").err());
+    }
+}
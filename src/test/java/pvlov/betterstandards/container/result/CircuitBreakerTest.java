@@ -0,0 +1,126 @@
+package pvlov.betterstandards.container.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CircuitBreaker breaker = CircuitBreaker.of(3, Duration.ofSeconds(1), 1, nanos::get);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        fail(1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        fail(2);
+        breaker.record(breaker.tryAcquire(), true);
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void permitsASingleTrialCallOnceTheOpenDurationHasPassed() {
+        // a transition within the millisecond of the previous one is dated a millisecond later, so move on first
+        advance(Duration.ofSeconds(1));
+        fail(3);
+        advance(Duration.ofMillis(999));
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+        advance(Duration.ofMillis(1));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        final long trial = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.NO_PERMIT, trial);
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+        breaker.record(trial, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void failedTrialCallReopens() {
+        fail(3);
+        advance(Duration.ofSeconds(1));
+        breaker.record(breaker.tryAcquire(), false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+        advance(Duration.ofSeconds(1));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void ignoresOutcomesOfCallsPermittedInAnEarlierState() {
+        final long stale = breaker.tryAcquire();
+        fail(3);
+        advance(Duration.ofSeconds(1));
+        final long trial = breaker.tryAcquire();
+
+        // the slow call from before the breaker opened must not close it
+        breaker.record(stale, true);
+        assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+        breaker.record(trial, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void resetCloses() {
+        fail(3);
+        breaker.reset();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void callRejectsWhileOpen() {
+        fail(3);
+        final Result<String, Throwable> result = breaker.call(() -> "called");
+
+        assertTrue(result.isErr());
+        assertSame(CallNotPermittedException.INSTANCE, result.err().orElseThrow());
+    }
+
+    @Test
+    void callRecordsThrownExceptionsAsFailures() {
+        for (int i = 0; i < 3; ++i) {
+            assertTrue(breaker.call(() -> {
+                throw new IllegalStateException("failure");
+            }).isErr());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of(1, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.of(1, Duration.ofSeconds(1), 0, System::nanoTime));
+    }
+
+    private void fail(final int times) {
+        for (int i = 0; i < times; ++i) {
+            breaker.record(breaker.tryAcquire(), false);
+        }
+    }
+
+    private void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,83 @@
+package pvlov.betterstandards.container.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ResultAllocationTest {
+
+    private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+    private static final Function<Integer, Result<Integer, String>> INCREMENT_OK = value -> Ok.of(value + 1);
+
+    @Test
+    void emptyOkIsShared() {
+        assertSame(Ok.empty(), Ok.empty());
+        assertSame(Ok.empty(), Result.of(() -> {
+        }));
+        assertSame(Ok.empty(), Ok.of(42).toVoid());
+    }
+
+    @Test
+    void errIsPropagatedWithoutCopying() {
+        final Result<Integer, String> err = Err.of("failure");
+
+        assertSame(err, err.map(INCREMENT));
+        assertSame(err, err.flatMap(INCREMENT_OK));
+        assertSame(err, err.toVoid());
+    }
+
+    @Test
+    void errPropagationDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threads = threadMXBean();
+        final Result<Integer, String> err = Err.of("failure");
+        // warm up so that neither class loading nor the JIT compiler is measured
+        propagate(err, 100_000);
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        final Result<?, String> result = propagate(err, 100_000);
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertSame(err, result);
+        // a single allocation per iteration would add up to megabytes, the slack only covers the measurement itself
+        assertTrue(allocated < 1024, "Err propagation allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void voidingDoesNotAllocate() {
+        final com.sun.management.ThreadMXBean threads = threadMXBean();
+        final Result<Integer, String> ok = Ok.of(42);
+        voidAll(ok, 100_000);
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        voidAll(ok, 100_000);
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < 1024, "toVoid allocated " + allocated + " bytes");
+    }
+
+    private static Result<?, String> propagate(final Result<Integer, String> err, final int iterations) {
+        Result<?, String> result = err;
+        for (int i = 0; i < iterations; ++i) {
+            result = err.map(INCREMENT).flatMap(INCREMENT_OK).toVoid();
+        }
+        return result;
+    }
+
+    private static void voidAll(final Result<Integer, String> ok, final int iterations) {
+        for (int i = 0; i < iterations; ++i) {
+            assertSame(Ok.empty(), ok.toVoid());
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        final boolean supported = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+        assumeTrue(supported, "Measuring thread allocations is not supported by this JVM");
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+}
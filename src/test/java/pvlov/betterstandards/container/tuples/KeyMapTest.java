@@ -0,0 +1,125 @@
+package pvlov.betterstandards.container.tuples;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyMapTest {
+
+    @Test
+    void putGetAndReplace() {
+        final IntIntKeyMap<String> map = new IntIntKeyMap<>();
+        assertNull(map.put(1, 2, "a"));
+        assertNull(map.put(2, 1, "b"));
+
+        assertEquals("a", map.put(1, 2, "c"));
+        assertEquals("c", map.get(1, 2));
+        assertEquals("b", map.get(2, 1));
+        assertNull(map.get(1, 1));
+        assertEquals("d", map.getOrDefault(1, 1, "d"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void growsBeyondTheInitialCapacity() {
+        final IntIntKeyMap<Integer> map = new IntIntKeyMap<>(1);
+        for (int x = 0; x < 300; ++x) {
+            for (int y = 0; y < 300; ++y) {
+                map.put(x, y, x * 300 + y);
+            }
+        }
+        assertEquals(90_000, map.size());
+        for (int x = 0; x < 300; ++x) {
+            for (int y = 0; y < 300; ++y) {
+                assertEquals(x * 300 + y, map.get(x, y));
+            }
+        }
+    }
+
+    @Test
+    void removalKeepsTheFollowingEntriesReachable() {
+        // a small table filled close to its load factor, so that removals have to shift back entries of probe chains
+        final IntIntKeyMap<Integer> map = new IntIntKeyMap<>();
+        for (int i = 0; i < 11; ++i) {
+            map.put(i, -i, i);
+        }
+        for (int i = 0; i < 11; i += 2) {
+            assertEquals(i, map.remove(i, -i));
+        }
+        for (int i = 0; i < 11; ++i) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(i, -i));
+        }
+        assertNull(map.remove(0, 0));
+        assertEquals(5, map.size());
+    }
+
+    @Test
+    void behavesLikeAHashMapUnderRandomOperations() {
+        final Random random = new Random(42);
+        final IntIntKeyMap<Integer> map = new IntIntKeyMap<>();
+        final LongLongKeyMap<Integer> longMap = new LongLongKeyMap<>();
+        final TupleKeyMap<Integer, Integer, Integer> tupleMap = new TupleKeyMap<>();
+        final Map<Tuple<Integer, Integer>, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; ++i) {
+            // a small key space, so that keys are removed and put again often
+            final int first = random.nextInt(64);
+            final int second = random.nextInt(64);
+            final Tuple<Integer, Integer> key = Tuple.of(first, second);
+            if (random.nextInt(3) == 0) {
+                final Integer removed = expected.remove(key);
+                assertEquals(removed, map.remove(first, second));
+                assertEquals(removed, longMap.remove(first, second));
+                assertEquals(removed, tupleMap.remove(first, second));
+            } else {
+                final Integer previous = expected.put(key, i);
+                assertEquals(previous, map.put(first, second, i));
+                assertEquals(previous, longMap.put(first, second, i));
+                assertEquals(previous, tupleMap.put(first, second, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.size(), longMap.size());
+        assertEquals(expected.size(), tupleMap.size());
+        expected.forEach((key, value) -> {
+            assertEquals(value, map.get(key.first(), key.second()));
+            assertEquals(value, longMap.get(key.first(), key.second()));
+            assertEquals(value, tupleMap.get(key.first(), key.second()));
+        });
+        map.forEach((first, second, value) -> assertEquals(expected.get(Tuple.of(first, second)), value));
+    }
+
+    @Test
+    void nullKeyComponentsAndValues() {
+        final TripleKeyMap<String, String, String, String> map = new TripleKeyMap<>();
+        map.put(null, "b", null, "x");
+        map.put("a", "b", "c", null);
+
+        assertEquals("x", map.get(null, "b", null));
+        assertNull(map.get("a", "b", "c"));
+        assertTrue(map.containsKey("a", "b", "c"));
+        assertFalse(map.containsKey("a", "b", null));
+        assertEquals("x", map.remove(null, "b", null));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        final TupleKeyMap<String, Integer, Integer> map = new TupleKeyMap<>();
+        for (int i = 0; i < 100; ++i) {
+            map.put("key", i, i);
+        }
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey("key", 1));
+        map.put("key", 1, 1);
+        assertEquals(1, map.get("key", 1));
+    }
+}
@@ -0,0 +1,106 @@
+package pvlov.betterstandards.container.tuples;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TupleSegmentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storesRowsInDirectMemory() {
+        try (TupleSegmentStore store = TupleSegmentStore.allocate(1, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.DOUBLE)) {
+            for (int i = 0; i < 1_000; ++i) {
+                store.add(Tuple.of(i, i / 2.0));
+            }
+            assertEquals(1_000, store.size());
+            assertEquals(Tuple.of(999, 499.5), store.getTuple(999));
+            store.setDouble(3, 1, -1.0);
+            assertEquals(-1.0, store.getDouble(3, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getInt(1_000, 0));
+        }
+    }
+
+    @Test
+    void restoresRowsWhenReopened() {
+        final Path file = directory.resolve("rows.store");
+        try (TupleSegmentStore store = TupleSegmentStore.map(file, 2, TupleSegmentStore.Type.LONG, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.DOUBLE)) {
+            for (int i = 0; i < 100; ++i) {
+                store.add(Triple.of((long) i << 40, i, i * 1.5));
+            }
+        }
+        try (TupleSegmentStore store = TupleSegmentStore.map(file, 2, TupleSegmentStore.Type.LONG, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.DOUBLE)) {
+            assertEquals(100, store.size());
+            for (int i = 0; i < 100; ++i) {
+                assertEquals(Triple.of((long) i << 40, i, i * 1.5), store.getTriple(i));
+            }
+            store.add(Triple.of(1L, 2, 3.0));
+        }
+        try (TupleSegmentStore store = TupleSegmentStore.map(file, 2, TupleSegmentStore.Type.LONG, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.DOUBLE)) {
+            assertEquals(101, store.size());
+        }
+    }
+
+    @Test
+    void rejectsAFileWithADifferentLayout() {
+        final Path file = directory.resolve("rows.store");
+        TupleSegmentStore.map(file, 10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.INT).close();
+
+        assertThrows(IllegalArgumentException.class, () -> TupleSegmentStore.map(file, 10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.LONG));
+    }
+
+    @Test
+    void rejectsAForeignFileWithoutModifyingIt() throws IOException {
+        final Path file = directory.resolve("notes.txt");
+        final byte[] content = "not a store\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(file, content);
+
+        assertThrows(IllegalArgumentException.class, () -> TupleSegmentStore.map(file, 10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.INT));
+        assertArrayEquals(content, Files.readAllBytes(file));
+    }
+
+    @Test
+    void rejectsACorruptHeader() throws IOException {
+        final Path file = directory.resolve("rows.store");
+        TupleSegmentStore.map(file, 10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.INT).close();
+        final long size = Files.size(file);
+
+        // arity, then a row count beyond the end of the file
+        overwriteInt(file, 12, 9);
+        assertThrows(IllegalArgumentException.class, () -> TupleSegmentStore.map(file, 10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.INT));
+        overwriteInt(file, 12, 2);
+        overwriteInt(file, 24, 1_000_000);
+        assertThrows(IllegalArgumentException.class, () -> TupleSegmentStore.map(file, 10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.INT));
+        assertEquals(size, Files.size(file));
+    }
+
+    @Test
+    void rejectsAccessAfterClose() {
+        final TupleSegmentStore store = TupleSegmentStore.allocate(10, TupleSegmentStore.Type.INT, TupleSegmentStore.Type.INT);
+        store.close();
+
+        assertTrue(store.isClosed());
+        assertThrows(IllegalStateException.class, store::addRow);
+    }
+
+    private static void overwriteInt(final Path file, final int position, final int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value), position);
+        }
+    }
+}